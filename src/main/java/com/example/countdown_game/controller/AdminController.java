@@ -0,0 +1,55 @@
+package com.example.countdown_game.controller;
+
+import com.example.countdown_game.service.GameService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Controller class for operational endpoints that manage the running instance.
+ * Provides endpoints to inspect and hot-reload the dictionary.
+ */
+@RestController
+@RequestMapping("/api/admin")
+public class AdminController {
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+    private final GameService gameService;
+
+    /**
+     * Constructor to inject the {@link GameService}.
+     *
+     * @param gameService the service owning the dictionary.
+     */
+    public AdminController(GameService gameService) {
+        this.gameService = gameService;
+    }
+
+    /**
+     * Endpoint to describe the dictionary snapshot currently in use.
+     *
+     * @return the snapshot version, load time, word count and reload status.
+     */
+    @GetMapping("/dictionary")
+    public Map<String, Object> getDictionaryInfo() {
+        return gameService.getDictionaryInfo();
+    }
+
+    /**
+     * Endpoint to rebuild the dictionary and swap it in without interrupting games.
+     *
+     * <p>The reload runs in the background, so this returns HTTP 202 immediately. Progress and
+     * failures are reported by {@code GET /api/admin/dictionary}.</p>
+     *
+     * @return the dictionary description at the time the reload was accepted.
+     */
+    @PostMapping("/dictionary/reload")
+    public ResponseEntity<Map<String, Object>> reloadDictionary() {
+        logger.info("Dictionary reload requested");
+        gameService.reloadDictionary();
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(gameService.getDictionaryInfo());
+    }
+}
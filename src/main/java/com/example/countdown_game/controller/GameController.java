@@ -1,15 +1,36 @@
 package com.example.countdown_game.controller;
 
+import com.example.countdown_game.dto.ValidationRequest;
 import com.example.countdown_game.entity.Score;
+import com.example.countdown_game.exception.SolverOverloadedException;
 import com.example.countdown_game.service.GameService;
+import com.example.countdown_game.service.Round;
+import com.example.countdown_game.service.RoundPool;
+import com.example.countdown_game.service.RoundSession;
+import com.example.countdown_game.service.RoundSessionStore;
 import com.example.countdown_game.service.ScoreService;
 import com.example.countdown_game.utils.LongestWordFinder;
+import com.example.countdown_game.utils.SolveResult;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +49,26 @@ public class GameController {
     private static final Logger logger = LoggerFactory.getLogger(GameController.class);
     private final GameService gameService;
     private final ScoreService scoreService;
+    private final RoundPool roundPool;
+    private final RoundSessionStore roundSessions;
+
+    /**
+     * The largest number of submissions accepted by {@link #validateBatch(List)}.
+     */
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    /**
+     * The largest number of words returned by {@link #getSolutions(String, int)}.
+     */
+    private static final int MAX_SOLUTIONS = 1000;
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    /**
+     * The largest number of letters {@link #getLetters(int, int, Long)} deals and the solution
+     * endpoints search, matching the longest word accepted by the input validator.
+     */
+    private static final int MAX_LETTERS = 20;
 
 
     /**
@@ -35,11 +76,31 @@ public class GameController {
      *
      * @param gameService  The service handling game-related logic
      * @param scoreService
+     * @param roundPool    The pool of pre-solved rounds
+     * @param roundSessions The rounds issued to players
      */
-    public GameController(GameService gameService, ScoreService scoreService) {
+    public GameController(GameService gameService, ScoreService scoreService, RoundPool roundPool,
+                          RoundSessionStore roundSessions) {
         this.gameService = gameService;
         this.scoreService = scoreService;
-        gameService.initializeDictionary();
+        this.roundPool = roundPool;
+        this.roundSessions = roundSessions;
+    }
+
+    /**
+     * Reports whether this instance is ready to serve games.
+     *
+     * <p>The dictionary loads in the background at startup. This endpoint returns HTTP 200 once it
+     * is loaded and warm, and HTTP 503 while it is loading or if it failed, so an orchestrator can
+     * route traffic only to warm instances.</p>
+     *
+     * @return the dictionary state, with a status code matching the readiness
+     */
+    @GetMapping("/ready")
+    public ResponseEntity<Map<String, Object>> getReadiness() {
+        GameService.DictionaryState state = gameService.getDictionaryState();
+        HttpStatus status = state == GameService.DictionaryState.READY ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(Map.of("state", state));
     }
 
     /**
@@ -52,6 +113,7 @@ public class GameController {
      */
     @GetMapping("/vowels")
     public Character getVowels() {
+        gameService.ensureDictionaryReady();
         return gameService.generateVowels();
 
     }
@@ -66,28 +128,208 @@ public class GameController {
      */
     @GetMapping("/consonants")
     public Character getConsonants() {
+        gameService.ensureDictionaryReady();
         return gameService.generateConsonants();
     }
 
+    /**
+     * Generates all letters of a round in one call.
+     *
+     * <p>This replaces one request per letter to {@code /vowels} and {@code /consonants}. Passing
+     * a {@code seed} makes the round reproducible.</p>
+     *
+     * @param vowels     the number of vowels to draw
+     * @param consonants the number of consonants to draw
+     * @param seed       optional seed that replays the same letters for the same counts
+     * @return the vowels followed by the consonants
+     */
+    @GetMapping("/letters")
+    public List<Character> getLetters(@RequestParam(defaultValue = "3") int vowels,
+                                      @RequestParam(defaultValue = "6") int consonants,
+                                      @RequestParam(required = false) Long seed) {
+        gameService.ensureDictionaryReady();
+        if (vowels < 0 || consonants < 0 || vowels + consonants == 0 || vowels + consonants > MAX_LETTERS) {
+            throw new IllegalArgumentException("A round needs between 1 and " + MAX_LETTERS + " letters.");
+        }
+        if (seed != null) {
+            return gameService.generateLetters(vowels, consonants, seed);
+        }
+        return gameService.generateLetters(vowels, consonants);
+    }
+
+    /**
+     * Deals a round from the pool of pre-solved rounds.
+     *
+     * <p>The round was dealt and solved in the background, so this costs no solving, and
+     * validating words for its letters afterwards reuses the stored longest word. The longest word
+     * itself is not revealed, only its length and how many words the letters allow.</p>
+     *
+     * <p>The round is held on the server under the returned {@code roundId}. Submitting that id
+     * to {@code POST /api/game/validate} instead of the letters validates against the letters
+     * dealt here.</p>
+     *
+     * @return the round id, deadline, letters, word count, longest word length and difficulty
+     */
+    @GetMapping("/round")
+    public Map<String, Object> getRound() {
+        gameService.ensureDictionaryReady();
+        RoundSession session = roundSessions.open(roundPool.take());
+        Round round = session.getRound();
+        List<Character> letters = new ArrayList<>(round.getLetters().length());
+        for (int i = 0; i < round.getLetters().length(); i++) {
+            letters.add(round.getLetters().charAt(i));
+        }
+        Map<String, Object> response = new HashMap<>();
+        response.put("roundId", session.getId());
+        response.put("deadline", session.getDeadline().toString());
+        response.put("letters", letters);
+        response.put("wordCount", round.getWordCount());
+        response.put("longestWordLength", round.getLongestWord() != null ? round.getLongestWord().length() : 0);
+        response.put("difficulty", round.getDifficulty());
+        return response;
+    }
+
+    /**
+     * Reports how full the round pool is, how its rounds were used and how many rounds are open.
+     *
+     * @return the round pool and round session statistics
+     */
+    @GetMapping("/round/stats")
+    public Map<String, Object> getRoundStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pool", roundPool.getStats());
+        stats.put("sessions", roundSessions.getStats());
+        return stats;
+    }
+
+    /**
+     * Reports statistics about the longest word solver, such as result cache hits and misses.
+     *
+     * @return a map of solver statistics
+     */
+    @GetMapping("/solver/stats")
+    public Map<String, Object> getSolverStats() {
+        return gameService.getSolverStats();
+    }
+
+    /**
+     * Lists the longest dictionary words that can be formed from a set of letters.
+     *
+     * @param letters the letters of the round
+     * @param limit   how many words to return, from 1 to {@value #MAX_SOLUTIONS}
+     * @return up to {@code limit} words, longest first, found within the solver's time budget
+     */
+    @GetMapping("/solutions")
+    public List<String> getSolutions(@RequestParam String letters,
+                                     @RequestParam(defaultValue = "10") int limit) {
+        gameService.ensureDictionaryReady();
+        checkSolutionLetters(letters);
+        if (limit < 1 || limit > MAX_SOLUTIONS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_SOLUTIONS + ".");
+        }
+        return gameService.findTopWords(letters, limit);
+    }
+
+    /**
+     * Streams every dictionary word that can be formed from a set of letters, longest first.
+     *
+     * <p>Words are written while the solver finds them instead of being collected into a list
+     * first. Each word is a JSON object {@code {"word": ..., "length": ...}}, sent as one line of
+     * newline-delimited JSON by default, or as a server-sent event when the client accepts
+     * {@code text/event-stream}. The output is flushed whenever the word length drops, so
+     * clients see each length as soon as it is complete. The search runs on the solver pool and
+     * the stream ends when the solver's time budget runs out.</p>
+     *
+     * @param letters the letters of the round
+     * @param accept  the {@code Accept} header, used to choose between NDJSON and SSE
+     * @return the streaming response
+     */
+    @GetMapping(value = "/solutions/stream", produces = {NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamSolutions(@RequestParam String letters,
+                                                                 @RequestHeader(value = HttpHeaders.ACCEPT, defaultValue = NDJSON_VALUE) String accept) {
+        gameService.ensureDictionaryReady();
+        checkSolutionLetters(letters);
+        boolean sse = accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+        StreamingResponseBody body = out -> writeSolutions(out, letters, sse ? "data: " : "", sse ? "\n\n" : "\n");
+        return ResponseEntity.ok()
+                .contentType(sse ? MediaType.TEXT_EVENT_STREAM : MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    private static void checkSolutionLetters(String letters) {
+        if (letters.length() > MAX_LETTERS) {
+            throw new IllegalArgumentException("letters must have at most " + MAX_LETTERS + " letters.");
+        }
+    }
+
+    private void writeSolutions(OutputStream out, String letters, String prefix, String suffix) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        IOException[] failure = new IOException[1];
+        int[] lastLength = {Integer.MAX_VALUE};
+        // The visitor runs on this response thread, so a slow client never holds a solver thread
+        gameService.forEachWord(letters, word -> {
+            try {
+                if (word.length() < lastLength[0]) {
+                    writer.flush();
+                    lastLength[0] = word.length();
+                }
+                writer.write(prefix);
+                writer.write("{\"word\":\"");
+                writer.write(JsonStringEncoder.getInstance().quoteAsString(word));
+                writer.write("\",\"length\":");
+                writer.write(Integer.toString(word.length()));
+                writer.write("}");
+                writer.write(suffix);
+                return true;
+            } catch (IOException e) {
+                failure[0] = e; // The client went away, stop searching
+                return false;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        writer.flush();
+    }
+
     /**
      * Validates a given word against the current set of letters.
      *
      * <p>This endpoint checks if the provided word is valid based on the current set of letters
-     * available in the game session. If the word is valid, it calculates a score based on the word's length.</p>
+     * available in the game session. If the word is valid, it calculates a score based on the word's length.
+     * The longest word search is time-boxed; {@code complete} is {@code false} when it ran out of
+     * time and a longer word may exist.</p>
+     *
+     * <p>A round dealt by {@code GET /api/game/round} is identified by its {@code roundId}
+     * instead; its letters and longest word are then taken from the server and nothing is
+     * solved. Submissions that arrive after the round's deadline are rejected with HTTP 410.</p>
      *
      * @param word          The word to validate
      * @param currentLetters The letters available in the game session, provided as a string
+     * @param roundId       The id of a round issued by the server, used instead of {@code currentLetters}
      * @return A map containing the word, its validity, and its score
      */
     @PostMapping("/validate")
     public Map<String, Object> validateWord(@RequestParam String word,
-                                            @RequestParam String currentLetters,
-                                            @RequestParam String playerName) {
+                                            @RequestParam(required = false) String currentLetters,
+                                            @RequestParam String playerName,
+                                            @RequestParam(required = false) String roundId) {
+        gameService.ensureDictionaryReady();
+        RoundSession session = null;
+        if (roundId != null) {
+            session = roundSessions.get(roundId);
+            currentLetters = session.getRound().getLetters();
+        } else if (currentLetters == null) {
+            throw new IllegalArgumentException("Either roundId or currentLetters is required.");
+        }
         Map<String, Object> response = new HashMap<>();
         try {
-            logger.info("Validating word: {}", word);
+            logger.debug("Validating word: {}", word);
             // Find the longest word that can be formed from the current letters
-            String longestWord = gameService.findLongestWord(currentLetters);
+            SolveResult solved = session != null
+                    ? new SolveResult(session.getRound().getLongestWord(), true)
+                    : gameService.solve(currentLetters);
+            String longestWord = solved.getWord();
             boolean isValid = gameService.validateWord(word, currentLetters);
             int scoreValue = isValid ? word.length() : 0;
 
@@ -101,15 +343,82 @@ public class GameController {
             response.put("isValid", isValid);
             response.put("score", scoreValue);
             response.put("longestWord", longestWord);
+            response.put("complete", solved.isComplete());
             if (longestWord != null) {
                 response.put("longestWordLength", longestWord.length());
             } else {
                 response.put("longestWordLength", 0);
             }
+        } catch (SolverOverloadedException e) {
+            throw e; // Answered with 503 by the exception handler so clients back off
         } catch (Exception e) {
             logger.error("Error validating word: {}", e.getMessage(), e);
             response.put("error", "An error occurred while validating the word. Please try again.");
         }
         return response;
     }
+
+    /**
+     * Validates and scores a whole batch of submissions in one request.
+     *
+     * <p>Each entry is handled like a call to {@code POST /api/game/validate}. Submissions that
+     * share a letter set are solved once, distinct letter sets are solved in parallel on the
+     * solver pool within one time budget, and all scores are saved in a single batched write.</p>
+     *
+     * <p>An entry whose letters the busy solver could not take carries an {@code error} instead
+     * of a score and is not saved; the other entries are unaffected.</p>
+     *
+     * @param submissions the submissions, as a JSON array of {@code playerName, word, currentLetters}
+     * @return one result per submission, in request order, with the same fields as a single validation
+     */
+    @PostMapping("/validate/batch")
+    public List<Map<String, Object>> validateBatch(@RequestBody List<ValidationRequest> submissions) {
+        gameService.ensureDictionaryReady();
+        if (submissions.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("A batch may contain at most " + MAX_BATCH_SIZE + " submissions.");
+        }
+        List<String> letterSets = new ArrayList<>(submissions.size());
+        for (ValidationRequest submission : submissions) {
+            if (submission.getPlayerName() == null || submission.getWord() == null || submission.getCurrentLetters() == null) {
+                throw new IllegalArgumentException("Every submission needs a playerName, word and currentLetters.");
+            }
+            letterSets.add(submission.getCurrentLetters());
+        }
+        logger.info("Validating a batch of {} words", submissions.size());
+        Map<String, SolveResult> longestWords = gameService.findLongestWords(letterSets);
+
+        List<Map<String, Object>> results = new ArrayList<>(submissions.size());
+        List<Score> scores = new ArrayList<>(submissions.size());
+        for (ValidationRequest submission : submissions) {
+            String word = submission.getWord();
+            SolveResult solved = longestWords.get(submission.getCurrentLetters());
+            if (solved == null) {
+                Map<String, Object> result = new HashMap<>();
+                result.put("playerName", submission.getPlayerName());
+                result.put("word", word);
+                result.put("complete", false);
+                result.put("error", "The solver is busy. Please try again shortly.");
+                results.add(result);
+                continue;
+            }
+            String longestWord = solved.getWord();
+            boolean isValid = gameService.validateWord(word, submission.getCurrentLetters());
+            int scoreValue = isValid ? word.length() : 0;
+            scores.add(new Score(submission.getPlayerName(), scoreValue, submission.getCurrentLetters(), word, longestWord));
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("playerName", submission.getPlayerName());
+            result.put("word", word);
+            result.put("isValid", isValid);
+            result.put("score", scoreValue);
+            result.put("longestWord", longestWord);
+            result.put("longestWordLength", longestWord != null ? longestWord.length() : 0);
+            result.put("complete", solved.isComplete());
+            results.add(result);
+        }
+
+        // Save all scores in one batched write
+        scoreService.saveScores(scores);
+        return results;
+    }
 }
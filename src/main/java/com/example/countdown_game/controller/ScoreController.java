@@ -1,15 +1,21 @@
 package com.example.countdown_game.controller;
 
-import com.example.countdown_game.entity.Score;
+import com.example.countdown_game.dto.PlayerStatsView;
+import com.example.countdown_game.dto.ScorePage;
+import com.example.countdown_game.dto.ScoreView;
+import com.example.countdown_game.service.LeaderboardService;
+import com.example.countdown_game.service.PlayerStanding;
 import com.example.countdown_game.service.ScoreService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller class to handle API requests related to player scores.
@@ -21,33 +27,129 @@ import java.util.List;
 public class ScoreController {
     private static final Logger logger = LoggerFactory.getLogger(ScoreController.class);
     private final ScoreService scoreService;
+    private final LeaderboardService leaderboardService;
+
+    /**
+     * The largest page {@link #getScoresByPlayer(String, String, int)} returns.
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * Response header carrying the cursor of the next page of scores.
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * The largest board {@link #getLeaderboard(String, int)} returns.
+     */
+    private static final int MAX_LEADERBOARD_SIZE = 100;
 
     /**
      * Constructor to inject the {@link ScoreService}.
      *
-     * @param scoreService the service used to manage scores.
+     * @param scoreService       the service used to manage scores.
+     * @param leaderboardService the service holding the leaderboards.
      */
-    public ScoreController(ScoreService scoreService) {
+    public ScoreController(ScoreService scoreService, LeaderboardService leaderboardService) {
         this.scoreService = scoreService;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
-     * Endpoint to retrieve scores for a specific player.
+     * Endpoint to retrieve scores for a specific player, one page at a time.
+     *
+     * <p>Scores are returned oldest first. When more scores follow, the response carries an
+     * {@value #NEXT_CURSOR_HEADER} header whose value is passed back as {@code cursor} to read
+     * the next page.</p>
      *
      * @param playerName the name of the player whose scores are to be retrieved.
-     * @return a {@link List} of {@link Score} objects for the specified player.
+     * @param cursor     the cursor of the page to read, or absent for the first page.
+     * @param limit      the largest number of scores to return, from 1 to {@value #MAX_PAGE_SIZE}.
+     * @return a {@link List} of scores for the specified player.
      */
     @GetMapping("/endScreen")
-    public List<Score> getScoresByPlayer(@RequestParam String playerName) {
+    public ResponseEntity<List<ScoreView>> getScoresByPlayer(@RequestParam String playerName,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "100") int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE + ".");
+        }
         try {
             logger.info("Fetching scores for player: {}", playerName);
-            return scoreService.getScoresForPlayer(playerName);
+            ScorePage page = scoreService.getScoresForPlayer(playerName, cursor, limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getScores());
+        } catch (IllegalArgumentException e) {
+            throw e; // A malformed cursor is answered with 400 by the exception handler
         } catch (Exception e) {
             logger.error("Error retrieving scores for player '{}': {}", playerName, e.getMessage(), e);
-            return Collections.emptyList(); // Return an empty list in case of an error
+            return ResponseEntity.ok(Collections.emptyList()); // Return an empty list in case of an error
         }
     }
 
+    /**
+     * Endpoint to read a player's statistics: games played, hit rate against the longest
+     * possible word, average score and the distribution of word lengths.
+     *
+     * @param playerName the name of the player.
+     * @return the statistics, or HTTP 404 if the player has no saved scores.
+     */
+    @GetMapping("/playerStats")
+    public ResponseEntity<PlayerStatsView> getPlayerStats(@RequestParam String playerName) {
+        return ResponseEntity.of(scoreService.getPlayerStats(playerName));
+    }
+
+    /**
+     * Endpoint to read the best players, served from memory.
+     *
+     * @param by    the metric to rank by: {@code total-score}, {@code best-word} or {@code average-word-length}.
+     * @param limit the number of players to return, from 1 to {@value #MAX_LEADERBOARD_SIZE}.
+     * @return the best players, best first.
+     */
+    @GetMapping("/leaderboard")
+    public List<PlayerStanding> getLeaderboard(@RequestParam(defaultValue = "total-score") String by,
+                                               @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_LEADERBOARD_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LEADERBOARD_SIZE + ".");
+        }
+        return leaderboardService.top(LeaderboardService.Metric.parse(by), limit);
+    }
+
+    /**
+     * Endpoint to read one player's standing: total score, best word and average word length.
+     *
+     * @param playerName the name of the player.
+     * @return the standing, or HTTP 404 if the player has no recorded answers.
+     */
+    @GetMapping("/leaderboard/player")
+    public ResponseEntity<PlayerStanding> getStanding(@RequestParam String playerName) {
+        PlayerStanding standing = leaderboardService.getStanding(playerName);
+        return standing == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(standing);
+    }
+
+    /**
+     * Endpoint to report the state of the background score writer.
+     *
+     * @return the writer's queue depth and write counters.
+     */
+    @GetMapping("/writer/stats")
+    public Map<String, Object> getWriterStats() {
+        return scoreService.getWriterStats();
+    }
+
+    /**
+     * Endpoint to report the hit rate of the end-screen page cache.
+     *
+     * @return the cache's size, hit, miss and invalidation counters.
+     */
+    @GetMapping("/cache/stats")
+    public Map<String, Object> getCacheStats() {
+        return scoreService.getCacheStats();
+    }
+
     /**
      * Endpoint to reset all game data by deleting all records from the database.
      */
@@ -0,0 +1,95 @@
+package com.example.countdown_game.dto;
+
+import java.util.SortedMap;
+
+/**
+ * A player's statistics, as served to dashboards.
+ */
+public class PlayerStatsView {
+
+    private final String playerName;
+
+    private final long gamesPlayed;
+
+    private final long hits;
+
+    private final double hitRate;
+
+    private final double averageScore;
+
+    private final SortedMap<Integer, Long> lengthDistribution;
+
+    /**
+     * Parameterized constructor for creating the statistics of a player.
+     *
+     * @param playerName         the name of the player
+     * @param gamesPlayed        the number of rounds the player answered
+     * @param hits               the number of answers as long as the round's longest possible word
+     * @param hitRate            {@code hits} divided by {@code gamesPlayed}
+     * @param averageScore       the average score per round
+     * @param lengthDistribution the number of scoring words of each length, shortest first
+     */
+    public PlayerStatsView(String playerName, long gamesPlayed, long hits, double hitRate, double averageScore,
+                           SortedMap<Integer, Long> lengthDistribution) {
+        this.playerName = playerName;
+        this.gamesPlayed = gamesPlayed;
+        this.hits = hits;
+        this.hitRate = hitRate;
+        this.averageScore = averageScore;
+        this.lengthDistribution = lengthDistribution;
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return the player's name.
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Gets the number of rounds the player answered.
+     *
+     * @return the number of games played.
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Gets the number of answers as long as the round's longest possible word.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the share of rounds in which the player found a word as long as the longest possible one.
+     *
+     * @return the hit rate, from 0 to 1.
+     */
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    /**
+     * Gets the average score per round.
+     *
+     * @return the average score.
+     */
+    public double getAverageScore() {
+        return averageScore;
+    }
+
+    /**
+     * Gets the number of scoring words of each length.
+     *
+     * @return a map of word length to count, shortest first.
+     */
+    public SortedMap<Integer, Long> getLengthDistribution() {
+        return lengthDistribution;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.countdown_game.dto;
+
+import java.util.List;
+
+/**
+ * One page of a player's scores, oldest first.
+ */
+public class ScorePage {
+
+    private final List<ScoreView> scores;
+
+    /**
+     * The cursor of the following page, or {@code null} if this is the last page.
+     */
+    private final String nextCursor;
+
+    /**
+     * Parameterized constructor for creating a page.
+     *
+     * @param scores     the scores on this page
+     * @param nextCursor the cursor of the following page, or {@code null} if there is none
+     */
+    public ScorePage(List<ScoreView> scores, String nextCursor) {
+        this.scores = scores;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the scores on this page.
+     *
+     * @return the scores, oldest first.
+     */
+    public List<ScoreView> getScores() {
+        return scores;
+    }
+
+    /**
+     * Gets the cursor of the following page.
+     *
+     * @return the cursor, or {@code null} if this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.countdown_game.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.Instant;
+
+/**
+ * A read-only view of one saved score, as shown on the end screen.
+ * Built directly by the score queries, so reading scores never loads managed entities.
+ */
+public class ScoreView {
+
+    /**
+     * The id of the score record, used only to build page cursors.
+     */
+    private final long id;
+
+    private final String playerName;
+
+    private final int scoreValue;
+
+    private final String selectedAlphabet;
+
+    private final String answered;
+
+    private final String longestPossibleWord;
+
+    private final Instant createdAt;
+
+    /**
+     * Parameterized constructor used by the score queries.
+     *
+     * @param id                  the id of the score record
+     * @param playerName          the name of the player
+     * @param scoreValue          the score of the answer
+     * @param selectedAlphabet    the letters of the round
+     * @param answered            the word answered by the player
+     * @param longestPossibleWord the longest possible word of the round
+     * @param createdAt           when the score was recorded
+     */
+    public ScoreView(long id, String playerName, int scoreValue, String selectedAlphabet, String answered,
+                     String longestPossibleWord, Instant createdAt) {
+        this.id = id;
+        this.playerName = playerName;
+        this.scoreValue = scoreValue;
+        this.selectedAlphabet = selectedAlphabet;
+        this.answered = answered;
+        this.longestPossibleWord = longestPossibleWord;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Gets the id of the score record.
+     *
+     * @return the id.
+     */
+    @JsonIgnore
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return the player's name.
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Gets the score of the answer.
+     *
+     * @return the score.
+     */
+    public int getScoreValue() {
+        return scoreValue;
+    }
+
+    /**
+     * Gets the letters of the round.
+     *
+     * @return the letters.
+     */
+    public String getSelectedAlphabet() {
+        return selectedAlphabet;
+    }
+
+    /**
+     * Gets the word answered by the player.
+     *
+     * @return the answered word.
+     */
+    public String getAnswered() {
+        return answered;
+    }
+
+    /**
+     * Gets the longest possible word of the round.
+     *
+     * @return the longest word.
+     */
+    public String getLongestPossibleWord() {
+        return longestPossibleWord;
+    }
+
+    /**
+     * Gets when the score was recorded.
+     *
+     * @return the creation time.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
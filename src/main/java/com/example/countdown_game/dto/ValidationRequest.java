@@ -0,0 +1,94 @@
+package com.example.countdown_game.dto;
+
+/**
+ * One word submission in a batch validation request.
+ * Carries the same fields as the parameters of {@code POST /api/game/validate}.
+ */
+public class ValidationRequest {
+
+    /**
+     * The name of the player who submitted the word.
+     */
+    private String playerName;
+
+    /**
+     * The word submitted by the player.
+     */
+    private String word;
+
+    /**
+     * The letters available in the player's round.
+     */
+    private String currentLetters;
+
+    public ValidationRequest() {
+
+    }
+
+    /**
+     * Parameterized constructor for creating a submission with all fields.
+     *
+     * @param playerName     the name of the player
+     * @param word           the submitted word
+     * @param currentLetters the letters of the round
+     */
+    public ValidationRequest(String playerName, String word, String currentLetters) {
+        this.playerName = playerName;
+        this.word = word;
+        this.currentLetters = currentLetters;
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return the player's name.
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Sets the name of the player.
+     *
+     * @param playerName the player's name.
+     */
+    public void setPlayerName(String playerName) {
+        this.playerName = playerName;
+    }
+
+    /**
+     * Gets the submitted word.
+     *
+     * @return the word.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * Sets the submitted word.
+     *
+     * @param word the word.
+     */
+    public void setWord(String word) {
+        this.word = word;
+    }
+
+    /**
+     * Gets the letters of the round.
+     *
+     * @return the letters.
+     */
+    public String getCurrentLetters() {
+        return currentLetters;
+    }
+
+    /**
+     * Sets the letters of the round.
+     *
+     * @param currentLetters the letters.
+     */
+    public void setCurrentLetters(String currentLetters) {
+        this.currentLetters = currentLetters;
+    }
+}
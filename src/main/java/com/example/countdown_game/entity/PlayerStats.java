@@ -0,0 +1,153 @@
+package com.example.countdown_game.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.MapKeyColumn;
+import jakarta.persistence.Table;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Entity class holding the running totals of one player's scores.
+ * One row is kept per player and updated as scores are written, so statistics are read without
+ * scanning the {@code score} table.
+ */
+@Entity
+@Table(name = "player_stats")
+public class PlayerStats {
+
+    /**
+     * The name of the player these totals belong to.
+     */
+    @Id
+    @Column(name = "player_name")
+    private String playerName;
+
+    /**
+     * The number of rounds the player answered.
+     */
+    @Column(name = "games_played", nullable = false)
+    private long gamesPlayed;
+
+    /**
+     * The number of answers that scored.
+     */
+    @Column(name = "valid_words", nullable = false)
+    private long validWords;
+
+    /**
+     * The number of answers as long as the longest possible word of their round.
+     */
+    @Column(name = "hits", nullable = false)
+    private long hits;
+
+    /**
+     * The sum of the player's scores.
+     */
+    @Column(name = "total_score", nullable = false)
+    private long totalScore;
+
+    /**
+     * The number of scoring words of each length.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "player_stats_length", joinColumns = @JoinColumn(name = "player_name"))
+    @MapKeyColumn(name = "word_length")
+    @Column(name = "word_count", nullable = false)
+    private Map<Integer, Long> lengthCounts = new HashMap<>();
+
+    /**
+     * Creates empty totals for a player.
+     *
+     * @param playerName the name of the player
+     */
+    public PlayerStats(String playerName) {
+        this.playerName = playerName;
+    }
+
+    public PlayerStats() {
+
+    }
+
+    /**
+     * Adds one answer to the totals.
+     *
+     * @param answered            the word the player answered with
+     * @param scoreValue          the score the word earned
+     * @param longestPossibleWord the longest word of the round, or {@code null} or blank if the
+     *                            round was not solved in time; such rounds never count as hits
+     */
+    public void record(String answered, int scoreValue, String longestPossibleWord) {
+        gamesPlayed++;
+        totalScore += scoreValue;
+        if (scoreValue <= 0 || answered == null) {
+            return;
+        }
+        validWords++;
+        lengthCounts.merge(answered.length(), 1L, Long::sum);
+        if (longestPossibleWord != null && !longestPossibleWord.isBlank()
+                && answered.length() >= longestPossibleWord.length()) {
+            hits++;
+        }
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return the player's name.
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Gets the number of rounds the player answered.
+     *
+     * @return the number of games played.
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    /**
+     * Gets the number of answers that scored.
+     *
+     * @return the number of valid words.
+     */
+    public long getValidWords() {
+        return validWords;
+    }
+
+    /**
+     * Gets the number of answers as long as the longest possible word.
+     *
+     * @return the number of hits.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the sum of the player's scores.
+     *
+     * @return the total score.
+     */
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    /**
+     * Gets the number of scoring words of each length.
+     *
+     * @return a map of word length to count.
+     */
+    public Map<Integer, Long> getLengthCounts() {
+        return lengthCounts;
+    }
+}
@@ -5,22 +5,29 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 
+import java.time.Instant;
+
 /**
  * Entity class representing a Score in the Countdown Game.
  * Stores details about a player's score, the word they answered with, and the selected letters.
  */
 @Entity
-@Table(name = "score")
+@Table(name = "score", indexes = @Index(name = "idx_score_player_created", columnList = "player_name, created_at, id"))
 public class Score {
 
     /**
      * The unique identifier for the score record.
-     * It is auto-generated using {@link GenerationType#IDENTITY}.
+     * It is generated from a database sequence that hands out blocks of 50 ids, so Hibernate
+     * knows the ids before inserting and can batch the inserts.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "score_seq")
+    @SequenceGenerator(name = "score_seq", sequenceName = "score_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -53,6 +60,12 @@ public class Score {
     @Column(name = "longest_possible_word", nullable = false)
     private String longestPossibleWord;
 
+    /**
+     * When the score was recorded. Together with the id it orders a player's scores for paging.
+     */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
     /**
      * Parameterized constructor for creating a Score object with all fields.
      *
@@ -67,14 +80,43 @@ public class Score {
         this.selectedAlphabet = selectedAlphabet;
         this.answered = answered;
         this.longestPossibleWord = longestPossibleWord;
+        this.createdAt = Instant.now();
     }
 
     public Score() {
 
     }
 
+    /**
+     * Fills in the creation time of scores built without one.
+     */
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
+    }
+
     // Getters and Setters
 
+    /**
+     * Gets the unique identifier of the score record.
+     *
+     * @return the id, or {@code null} if the score was not saved yet.
+     */
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Sets the unique identifier of the score record.
+     *
+     * @param id the id, or {@code null} to have a new one generated on save.
+     */
+    public void setId(Long id) {
+        this.id = id;
+    }
+
     /**
      * Gets the name of the player.
      *
@@ -157,6 +199,24 @@ public class Score {
     }
 
 
+    /**
+     * Gets when the score was recorded.
+     *
+     * @return the creation time.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Sets when the score was recorded.
+     *
+     * @param createdAt the creation time.
+     */
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
     /**
      * Sets the selected letters used during the game round.
      *
@@ -0,0 +1,19 @@
+package com.example.countdown_game.exception;
+
+/**
+ * Thrown when a game endpoint is called before the dictionary has finished loading and warming
+ * up, or after it failed to load.
+ *
+ * <p>The {@link GlobalExceptionHandler} turns it into an HTTP 503 (Service Unavailable) response.
+ */
+public class DictionaryNotReadyException extends RuntimeException {
+
+    /**
+     * Constructs the exception with a message describing the dictionary state.
+     *
+     * @param message the detail message.
+     */
+    public DictionaryNotReadyException(String message) {
+        super(message);
+    }
+}
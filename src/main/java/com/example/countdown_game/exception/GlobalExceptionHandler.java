@@ -2,6 +2,7 @@ package com.example.countdown_game.exception;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -55,4 +56,70 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(e.getMessage());
     }
+
+    /**
+     * Handles {@link DictionaryNotReadyException} exceptions thrown while the dictionary is loading.
+     *
+     * <p>This method returns an HTTP 503 (Service Unavailable) response with a {@code Retry-After}
+     * header, so clients and load balancers back off until the instance is warm.
+     *
+     * @param e The {@link DictionaryNotReadyException} that was thrown.
+     * @return A {@link ResponseEntity} containing the HTTP status and the exception message.
+     */
+    @ExceptionHandler(DictionaryNotReadyException.class)
+    public ResponseEntity<String> handleDictionaryNotReadyException(DictionaryNotReadyException e) {
+        logger.debug("Rejected request: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(e.getMessage());
+    }
+
+    /**
+     * Handles {@link SolverOverloadedException} exceptions thrown when the solver pool is saturated.
+     *
+     * <p>This method returns an HTTP 503 (Service Unavailable) response with a short
+     * {@code Retry-After} header, so clients back off briefly instead of queueing more work.
+     *
+     * @param e The {@link SolverOverloadedException} that was thrown.
+     * @return A {@link ResponseEntity} containing the HTTP status and the exception message.
+     */
+    @ExceptionHandler(SolverOverloadedException.class)
+    public ResponseEntity<String> handleSolverOverloadedException(SolverOverloadedException e) {
+        logger.debug("Rejected solve: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(e.getMessage());
+    }
+
+    /**
+     * Handles {@link RoundNotFoundException} exceptions thrown for unknown or expired rounds.
+     *
+     * <p>This method returns an HTTP 404 (Not Found) response, telling the client to start a new
+     * round.
+     *
+     * @param e The {@link RoundNotFoundException} that was thrown.
+     * @return A {@link ResponseEntity} containing the HTTP status and the exception message.
+     */
+    @ExceptionHandler(RoundNotFoundException.class)
+    public ResponseEntity<String> handleRoundNotFoundException(RoundNotFoundException e) {
+        logger.debug("Unknown round: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(e.getMessage());
+    }
+
+    /**
+     * Handles {@link RoundClosedException} exceptions thrown for submissions after the deadline.
+     *
+     * <p>This method returns an HTTP 410 (Gone) response, because the round existed but no longer
+     * accepts words.
+     *
+     * @param e The {@link RoundClosedException} that was thrown.
+     * @return A {@link ResponseEntity} containing the HTTP status and the exception message.
+     */
+    @ExceptionHandler(RoundClosedException.class)
+    public ResponseEntity<String> handleRoundClosedException(RoundClosedException e) {
+        logger.debug("Late submission: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.GONE)
+                .body(e.getMessage());
+    }
 }
@@ -0,0 +1,18 @@
+package com.example.countdown_game.exception;
+
+/**
+ * Thrown when a word is submitted for a round after its deadline has passed.
+ *
+ * <p>The {@link GlobalExceptionHandler} turns it into an HTTP 410 (Gone) response.
+ */
+public class RoundClosedException extends RuntimeException {
+
+    /**
+     * Constructs the exception with a message naming the closed round.
+     *
+     * @param message the detail message.
+     */
+    public RoundClosedException(String message) {
+        super(message);
+    }
+}
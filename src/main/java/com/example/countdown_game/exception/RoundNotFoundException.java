@@ -0,0 +1,18 @@
+package com.example.countdown_game.exception;
+
+/**
+ * Thrown when a submission names a round that was never issued or whose session has expired.
+ *
+ * <p>The {@link GlobalExceptionHandler} turns it into an HTTP 404 (Not Found) response.
+ */
+public class RoundNotFoundException extends RuntimeException {
+
+    /**
+     * Constructs the exception with a message naming the missing round.
+     *
+     * @param message the detail message.
+     */
+    public RoundNotFoundException(String message) {
+        super(message);
+    }
+}
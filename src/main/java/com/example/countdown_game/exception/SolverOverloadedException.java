@@ -0,0 +1,19 @@
+package com.example.countdown_game.exception;
+
+/**
+ * Thrown when a solve is rejected because every solver thread is busy and the solver queue is
+ * full.
+ *
+ * <p>The {@link GlobalExceptionHandler} turns it into an HTTP 503 (Service Unavailable) response.
+ */
+public class SolverOverloadedException extends RuntimeException {
+
+    /**
+     * Constructs the exception with a message describing the overload.
+     *
+     * @param message the detail message.
+     */
+    public SolverOverloadedException(String message) {
+        super(message);
+    }
+}
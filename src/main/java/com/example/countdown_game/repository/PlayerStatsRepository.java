@@ -0,0 +1,10 @@
+package com.example.countdown_game.repository;
+
+import com.example.countdown_game.entity.PlayerStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository interface for managing {@link PlayerStats} entities, keyed by player name.
+ */
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, String> {
+}
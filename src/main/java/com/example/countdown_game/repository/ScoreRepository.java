@@ -1,11 +1,15 @@
 package com.example.countdown_game.repository;
 
+import com.example.countdown_game.dto.ScoreView;
 import com.example.countdown_game.entity.Score;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 
 /**
@@ -22,6 +26,52 @@ public interface ScoreRepository extends JpaRepository<Score, Long> {
      */
     List<Score> findByPlayerName(String playerName);
 
+    /**
+     * Reads the first page of a player's scores, oldest first, without loading entities.
+     * Served by the {@code (player_name, created_at, id)} index.
+     *
+     * @param playerName the name of the player.
+     * @param page       the page size; only its size is used.
+     * @return up to {@code page.getPageSize()} scores.
+     */
+    @Query("SELECT new com.example.countdown_game.dto.ScoreView(s.id, s.playerName, s.scoreValue, s.selectedAlphabet,"
+            + " s.answered, s.longestPossibleWord, s.createdAt) FROM Score s"
+            + " WHERE s.playerName = :playerName ORDER BY s.createdAt, s.id")
+    List<ScoreView> findPageByPlayerName(@Param("playerName") String playerName, Pageable page);
+
+    /**
+     * Reads the page of a player's scores that follows a given score, oldest first.
+     * The keyset condition seeks straight to the position in the index, so deep pages cost the
+     * same as the first one.
+     *
+     * @param playerName the name of the player.
+     * @param createdAt  the creation time of the last score of the previous page.
+     * @param id         the id of the last score of the previous page.
+     * @param page       the page size; only its size is used.
+     * @return up to {@code page.getPageSize()} scores.
+     */
+    @Query("SELECT new com.example.countdown_game.dto.ScoreView(s.id, s.playerName, s.scoreValue, s.selectedAlphabet,"
+            + " s.answered, s.longestPossibleWord, s.createdAt) FROM Score s"
+            + " WHERE s.playerName = :playerName"
+            + " AND (s.createdAt > :createdAt OR (s.createdAt = :createdAt AND s.id > :id))"
+            + " ORDER BY s.createdAt, s.id")
+    List<ScoreView> findPageByPlayerNameAfter(@Param("playerName") String playerName,
+                                              @Param("createdAt") Instant createdAt,
+                                              @Param("id") long id,
+                                              Pageable page);
+
+    /**
+     * Reads the scores that follow a given id, in id order, without loading entities.
+     * Used to walk the whole table in batches.
+     *
+     * @param id   the id of the last score already read.
+     * @param page the batch size; only its size is used.
+     * @return up to {@code page.getPageSize()} scores.
+     */
+    @Query("SELECT new com.example.countdown_game.dto.ScoreView(s.id, s.playerName, s.scoreValue, s.selectedAlphabet,"
+            + " s.answered, s.longestPossibleWord, s.createdAt) FROM Score s WHERE s.id > :id ORDER BY s.id")
+    List<ScoreView> findBatchAfter(@Param("id") long id, Pageable page);
+
     /**
      * Deletes all from the database.
      */
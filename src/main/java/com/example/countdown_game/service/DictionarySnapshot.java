@@ -0,0 +1,73 @@
+package com.example.countdown_game.service;
+
+import com.example.countdown_game.utils.WordDictionary;
+import com.example.countdown_game.utils.WordSolver;
+
+import java.time.Instant;
+
+/**
+ * An immutable pairing of a loaded dictionary with the solver built from it.
+ *
+ * <p>{@link GameService} publishes snapshots through a single atomic reference. A request reads
+ * the reference once and uses that snapshot throughout, so a reload never mixes the words of one
+ * dictionary with the index of another, and solves already running finish on the snapshot they
+ * started with.</p>
+ */
+public final class DictionarySnapshot {
+
+    private final long version;
+    private final WordDictionary dictionary;
+    private final WordSolver solver;
+    private final Instant loadedAt;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param version    increasing number identifying this snapshot
+     * @param dictionary the loaded dictionary
+     * @param solver     the solver built from {@code dictionary}
+     * @param loadedAt   when the snapshot finished building
+     */
+    public DictionarySnapshot(long version, WordDictionary dictionary, WordSolver solver, Instant loadedAt) {
+        this.version = version;
+        this.dictionary = dictionary;
+        this.solver = solver;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Gets the number identifying this snapshot; each reload gets a higher one.
+     *
+     * @return the snapshot version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the loaded dictionary.
+     *
+     * @return the dictionary
+     */
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Gets the solver built from this snapshot's dictionary.
+     *
+     * @return the solver
+     */
+    public WordSolver getSolver() {
+        return solver;
+    }
+
+    /**
+     * Gets when the snapshot finished building.
+     *
+     * @return the load time
+     */
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -2,16 +2,54 @@ package com.example.countdown_game.service;
 
 
 
+import com.example.countdown_game.exception.DictionaryNotReadyException;
+import com.example.countdown_game.exception.SolverOverloadedException;
+import com.example.countdown_game.utils.Deadline;
+import com.example.countdown_game.utils.DictionaryFormat;
 import com.example.countdown_game.utils.InputValidator;
+import com.example.countdown_game.utils.LetterDistribution;
 
 import com.example.countdown_game.utils.LongestWordFinder;
+import com.example.countdown_game.utils.LruCache;
+import com.example.countdown_game.utils.SignatureWordSolver;
+import com.example.countdown_game.utils.SolveResult;
+import com.example.countdown_game.utils.SolverEngine;
+import com.example.countdown_game.utils.WordDictionary;
+import com.example.countdown_game.utils.WordSolver;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static com.example.countdown_game.utils.LongestWordFinder.*;
 
@@ -26,54 +64,442 @@ import static com.example.countdown_game.utils.LongestWordFinder.*;
 public class GameService {
     private static final Logger logger = LoggerFactory.getLogger(GameService.class);
 
-    private static boolean isDictionaryLoaded = false;
-    Random random = new Random();
-    private static final List<Character> VOWELS = Arrays.asList('A', 'E', 'I', 'O', 'U');
-    private static final List<Character> CONSONANTS = Arrays.asList(
-            'B', 'C', 'D', 'F', 'G', 'H', 'J', 'K', 'L', 'M',
-            'N', 'P', 'Q', 'R', 'S', 'T', 'V', 'W', 'X', 'Y', 'Z'
-    );
+    /**
+     * Lifecycle of the dictionary and solver warm-up.
+     */
+    public enum DictionaryState {
+        /** The dictionary is loading or the solver is warming up. */
+        LOADING,
+        /** The dictionary is loaded and the solver is warm. */
+        READY,
+        /** The dictionary could not be loaded. */
+        FAILED
+    }
+
+    /**
+     * Outcome of {@link #checkWord(String, String)}.
+     */
+    public enum ValidationResult {
+        /** The word is in the dictionary and can be formed from the letters. */
+        VALID,
+        /** The word is empty, too long or contains characters other than letters and spaces. */
+        INVALID_INPUT,
+        /** The word needs a letter, or more copies of a letter, than the round provides. */
+        LETTERS_UNAVAILABLE,
+        /** The word can be formed from the letters but is not in the dictionary. */
+        NOT_IN_DICTIONARY
+    }
+
+    /**
+     * Scratch letter counts reused by {@link #checkWord(String, String)} on each request thread.
+     */
+    private static final ThreadLocal<int[]> LETTER_COUNTS = ThreadLocal.withInitial(() -> new int[26]);
+
+    /**
+     * Default vowel weights, following the frequencies of the Countdown vowel pile.
+     */
+    public static final String DEFAULT_VOWEL_WEIGHTS = "A:15,E:21,I:13,O:13,U:5";
+
+    /**
+     * Default consonant weights, following the frequencies of the Countdown consonant pile.
+     */
+    public static final String DEFAULT_CONSONANT_WEIGHTS =
+            "B:2,C:3,D:6,F:2,G:3,H:2,J:1,K:1,L:5,M:4,N:8,P:4,Q:1,R:9,S:9,T:9,V:1,W:1,X:1,Y:1,Z:1";
+
+    private final LetterDistribution vowelDistribution;
+
+    private final LetterDistribution consonantDistribution;
 
 
     InputValidator inputValidator = new InputValidator();
 
+    private final SolverEngine solverEngine;
+
+    private final DictionaryFormat dictionaryFormat;
+
+    private final int warmupIterations;
+
+    /**
+     * How long a single solve may run before it returns its best word so far.
+     */
+    private final Duration solveTimeBudget;
+
+    /**
+     * Word list to load instead of the bundled dictionary, or {@code null}.
+     */
+    private final Path dictionaryPath;
+
+    private volatile DictionaryState dictionaryState = DictionaryState.LOADING;
+
+    /**
+     * The dictionary and solver in use, or {@code null} until the dictionary is first loaded.
+     * Replaced as a whole by {@link #reloadDictionary()}.
+     */
+    private final AtomicReference<DictionarySnapshot> snapshot = new AtomicReference<>();
+
+    private final AtomicLong snapshotVersions = new AtomicLong();
+
+    /**
+     * The most recent reload, kept so that concurrent reload requests share one rebuild.
+     */
+    private CompletableFuture<DictionarySnapshot> latestReload;
+
+    private volatile String lastReloadError;
+
+    /**
+     * Longest word results keyed by the snapshot version and the sorted, lower-cased round
+     * letters. An empty value records that no word can be formed.
+     */
+    private final LruCache<String, Optional<String>> solverCache;
+
+    /**
+     * Solves currently running, keyed like {@link #solverCache}. Callers that miss the cache while
+     * an identical solve is running wait for it instead of repeating the work.
+     */
+    private final ConcurrentMap<String, CompletableFuture<SolveResult>> inFlightSolves = new ConcurrentHashMap<>();
+
+    private final LongAdder coalescedSolves = new LongAdder();
+
+    /**
+     * Solves that ran out of time and returned an incomplete result.
+     */
+    private final LongAdder deadlineExceeded = new LongAdder();
+
+    /**
+     * How much longer than the time budget a caller waits for solver work before giving up on it.
+     */
+    private static final Duration SOLVER_WAIT_SLACK = Duration.ofMillis(100);
+
+    /**
+     * How many words a search may find ahead of the caller of {@link #forEachWord(String, Predicate)}.
+     */
+    private static final int WORD_HAND_OFF_CAPACITY = 256;
+
+    /**
+     * How often both sides of a word hand-off check whether the other side stopped.
+     */
+    private static final Duration WORD_HAND_OFF_POLL = Duration.ofMillis(10);
+
+    /**
+     * Bulkhead that runs all solver work, so expensive solves cannot occupy every request thread.
+     * Its queue is bounded and full queues reject new work instead of growing.
+     */
+    private final ThreadPoolExecutor solverExecutor;
+
+    private final int solverQueueCapacity;
+
+    private final LongAdder rejectedSolves = new LongAdder();
+
+    /**
+     * Constructs a GameService that uses the default {@link SolverEngine#SIGNATURE} engine.
+     */
+    public GameService() {
+        this(SolverEngine.SIGNATURE, 10_000, DictionaryFormat.MAPPED, "", 0, 250, 0, 64,
+                DEFAULT_VOWEL_WEIGHTS, DEFAULT_CONSONANT_WEIGHTS);
+    }
+
+    /**
+     * Constructs a GameService that solves rounds with the given engine.
+     *
+     * @param solverEngine    the engine selected by the {@code game.solver.engine} property
+     * @param solverCacheSize the maximum number of cached letter sets
+     * @param dictionaryFormat the in-memory dictionary format selected by {@code game.dictionary.format}
+     * @param dictionaryPath   a word list file to load instead of the bundled one, or blank
+     * @param warmupIterations the number of random rounds solved to warm up the JIT before serving
+     * @param solveTimeBudgetMs the time budget of a single solve in milliseconds, or {@code 0} for none
+     * @param solverThreads    the number of solver threads, or {@code 0} for one per processor
+     * @param solverQueueCapacity the number of solves that may wait for a thread before new ones are rejected
+     * @param vowelWeights     the relative frequency of each vowel, as {@code letter:weight} pairs
+     * @param consonantWeights the relative frequency of each consonant, as {@code letter:weight} pairs
+     */
+    @Autowired
+    public GameService(@Value("${game.solver.engine:signature}") SolverEngine solverEngine,
+                       @Value("${game.solver.cache.max-size:10000}") int solverCacheSize,
+                       @Value("${game.dictionary.format:mapped}") DictionaryFormat dictionaryFormat,
+                       @Value("${game.dictionary.path:}") String dictionaryPath,
+                       @Value("${game.dictionary.warmup-iterations:2000}") int warmupIterations,
+                       @Value("${game.solver.time-budget-ms:250}") long solveTimeBudgetMs,
+                       @Value("${game.solver.threads:0}") int solverThreads,
+                       @Value("${game.solver.queue-capacity:64}") int solverQueueCapacity,
+                       @Value("${game.letters.vowel-weights:" + DEFAULT_VOWEL_WEIGHTS + "}") String vowelWeights,
+                       @Value("${game.letters.consonant-weights:" + DEFAULT_CONSONANT_WEIGHTS + "}") String consonantWeights) {
+        this.solverEngine = solverEngine;
+        this.dictionaryFormat = dictionaryFormat;
+        this.dictionaryPath = dictionaryPath.isBlank() ? null : Path.of(dictionaryPath);
+        this.warmupIterations = warmupIterations;
+        this.solveTimeBudget = Duration.ofMillis(solveTimeBudgetMs);
+        this.solverCache = new LruCache<>(solverCacheSize);
+        this.solverQueueCapacity = solverQueueCapacity;
+        this.vowelDistribution = LetterDistribution.parse(vowelWeights);
+        this.consonantDistribution = LetterDistribution.parse(consonantWeights);
+        this.solverExecutor = newSolverExecutor(
+                solverThreads > 0 ? solverThreads : Runtime.getRuntime().availableProcessors(), solverQueueCapacity);
+    }
+
+    private static ThreadPoolExecutor newSolverExecutor(int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadFactory threadFactory = task -> {
+            Thread thread = new Thread(task, "solver-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        return new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, queue, threadFactory,
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Stops the solver threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdownSolverExecutor() {
+        solverExecutor.shutdownNow();
+    }
+
     /**
      * Generates a specified number of random vowels.
      *
+     * <p>Vowels are drawn with the configured weights, in constant time.</p>
+     *
      * @return A list of randomly selected vowels
      */
     public Character generateVowels() {
-        return VOWELS.get(random.nextInt(VOWELS.size()));
+        return vowelDistribution.sample(ThreadLocalRandom.current());
     }
 
     /**
-     * Initializes the dictionary during application startup.
+     * Starts loading the dictionary and warming up the solver on a background thread.
      * <p>
-     * This method is executed automatically after the bean is constructed, loading the dictionary
-     * into memory for subsequent use.
+     * This method is executed automatically after the bean is constructed. Until the warm-up
+     * finishes, {@link #getDictionaryState()} reports {@link DictionaryState#LOADING} and
+     * {@link #ensureDictionaryReady()} rejects game requests.
      * </p>
      */
+    @PostConstruct
+    public void startDictionaryWarmup() {
+        Thread warmup = new Thread(this::warmUp, "dictionary-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+    /**
+     * Loads the dictionary, then solves and validates random rounds so the JIT compiles the hot
+     * paths before the first player arrives.
+     */
+    private void warmUp() {
+        long start = System.nanoTime();
+        try {
+            initializeDictionary();
+            warmUpSolver(snapshot.get(), warmupIterations);
+            dictionaryState = DictionaryState.READY;
+            logger.info("Dictionary ready after {} ms ({} warm-up rounds)",
+                    (System.nanoTime() - start) / 1_000_000, warmupIterations);
+        } catch (RuntimeException e) {
+            dictionaryState = DictionaryState.FAILED;
+            logger.error("Dictionary failed to load, game endpoints will stay unavailable", e);
+        }
+    }
+
+    /**
+     * Solves random rounds against a snapshot, bypassing the result cache.
+     *
+     * @param target     the snapshot to exercise
+     * @param iterations the number of rounds to solve
+     */
+    private void warmUpSolver(DictionarySnapshot target, int iterations) {
+        StringBuilder letters = new StringBuilder(9);
+        for (int i = 0; i < iterations; i++) {
+            letters.setLength(0);
+            for (int j = 0; j < 9; j++) {
+                letters.append(j < 3 ? generateVowels() : generateConsonants());
+            }
+            String longestWord = target.getSolver().findLongestWord(letters.toString());
+            if (longestWord != null) {
+                target.getDictionary().contains(longestWord);
+            }
+        }
+    }
+
+    /**
+     * Gets the readiness of the dictionary and solver.
+     *
+     * @return the current {@link DictionaryState}
+     */
+    public DictionaryState getDictionaryState() {
+        return dictionaryState;
+    }
+
+    /**
+     * Rejects the caller unless the dictionary is loaded and warm.
+     *
+     * @throws DictionaryNotReadyException if the dictionary is still loading or failed to load
+     */
+    public void ensureDictionaryReady() {
+        DictionaryState state = dictionaryState;
+        if (state == DictionaryState.LOADING) {
+            throw new DictionaryNotReadyException("The dictionary is still loading. Please try again shortly.");
+        }
+        if (state == DictionaryState.FAILED) {
+            throw new DictionaryNotReadyException("The dictionary failed to load on this instance.");
+        }
+    }
 
+    /**
+     * Loads the dictionary and builds the solver on the calling thread, if not done yet.
+     */
     public void initializeDictionary() {
-        if (!isDictionaryLoaded) {
-            synchronized (GameService.class) {
-                if (!isDictionaryLoaded) {
-                    LongestWordFinder.loadDictionary();
-                    isDictionaryLoaded = true;
+        if (snapshot.get() == null) {
+            synchronized (this) {
+                if (snapshot.get() == null) {
+                    publish(buildSnapshot());
                 }
             }
         }
     }
 
+    /**
+     * Rebuilds the dictionary and its solver in the background and swaps them in atomically.
+     * <p>
+     * Requests keep using the current snapshot until the new one is completely built and warmed
+     * up, and solves already running finish on the snapshot they started with. If a reload is
+     * already running, its future is returned instead of starting another one. A failed reload
+     * leaves the current snapshot in place.
+     * </p>
+     *
+     * @return a future completed with the new snapshot once it is in use
+     */
+    public synchronized CompletableFuture<DictionarySnapshot> reloadDictionary() {
+        if (latestReload != null && !latestReload.isDone()) {
+            return latestReload;
+        }
+        latestReload = CompletableFuture.supplyAsync(() -> {
+            DictionarySnapshot next = buildSnapshot();
+            warmUpSolver(next, Math.min(warmupIterations, 200));
+            publish(next);
+            lastReloadError = null;
+            return next;
+        }, task -> {
+            Thread reload = new Thread(task, "dictionary-reload");
+            reload.setDaemon(true);
+            reload.start();
+        });
+        latestReload.whenComplete((next, error) -> {
+            if (error != null) {
+                lastReloadError = error.getMessage();
+                logger.error("Dictionary reload failed, keeping snapshot {}", getDictionaryVersion(), error);
+            }
+        });
+        return latestReload;
+    }
+
+    /**
+     * Describes the dictionary snapshot currently in use.
+     *
+     * @return a map with the snapshot version, load time, word count and reload status
+     */
+    public synchronized Map<String, Object> getDictionaryInfo() {
+        DictionarySnapshot current = snapshot.get();
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("state", dictionaryState);
+        info.put("version", current == null ? 0 : current.getVersion());
+        info.put("loadedAt", current == null ? null : current.getLoadedAt().toString());
+        info.put("words", current == null ? 0 : current.getDictionary().size());
+        info.put("format", dictionaryFormat);
+        info.put("engine", solverEngine);
+        info.put("reloading", latestReload != null && !latestReload.isDone());
+        info.put("lastReloadError", lastReloadError);
+        return info;
+    }
+
+    /**
+     * Gets the version of the dictionary snapshot in use.
+     *
+     * @return the snapshot version, or {@code 0} before the dictionary is first loaded
+     */
+    public long getDictionaryVersion() {
+        DictionarySnapshot current = snapshot.get();
+        return current == null ? 0 : current.getVersion();
+    }
+
+    private DictionarySnapshot buildSnapshot() {
+        WordDictionary dictionary = LongestWordFinder.loadDictionary(dictionaryFormat, dictionaryPath);
+        WordSolver solver = createSolver(dictionary);
+        return new DictionarySnapshot(snapshotVersions.incrementAndGet(), dictionary, solver, Instant.now());
+    }
+
+    /**
+     * Builds the solver of a new dictionary snapshot with the configured engine.
+     *
+     * @param dictionary the freshly loaded dictionary
+     * @return the solver used until the next reload
+     */
+    protected WordSolver createSolver(WordDictionary dictionary) {
+        return solverEngine.createSolver(dictionary);
+    }
+
+    private void publish(DictionarySnapshot next) {
+        snapshot.set(next);
+        // Entries are keyed by version, so this only frees memory held for the old snapshot
+        solverCache.clear();
+        logger.info("Using dictionary snapshot {} with the {} solver engine", next.getVersion(), solverEngine);
+    }
+
 
     /**
      * Generates a specified number of random consonants.
      *
+     * <p>Consonants are drawn with the configured weights, so common letters such as S and T
+     * come up far more often than Q or Z.</p>
+     *
      * @return A list of randomly selected consonants
      */
     public Character generateConsonants() {
 
-        return CONSONANTS.get(random.nextInt(CONSONANTS.size()));
+        return consonantDistribution.sample(ThreadLocalRandom.current());
+    }
+
+    /**
+     * Generates the letters of a whole round at once.
+     *
+     * <p>Letters are drawn from a per-thread generator, so concurrent rounds never contend on a
+     * shared seed.</p>
+     *
+     * @param vowels     the number of vowels to draw
+     * @param consonants the number of consonants to draw
+     * @return the vowels followed by the consonants
+     */
+    public List<Character> generateLetters(int vowels, int consonants) {
+        List<Character> letters = new ArrayList<>(vowels + consonants);
+        for (int i = 0; i < vowels; i++) {
+            letters.add(generateVowels());
+        }
+        for (int i = 0; i < consonants; i++) {
+            letters.add(generateConsonants());
+        }
+        return letters;
+    }
+
+    /**
+     * Generates the letters of a round reproducibly.
+     *
+     * <p>The same seed and counts always produce the same letters, so load tests can replay
+     * identical rounds.</p>
+     *
+     * @param vowels     the number of vowels to draw
+     * @param consonants the number of consonants to draw
+     * @param seed       the seed of the round
+     * @return the vowels followed by the consonants
+     */
+    public List<Character> generateLetters(int vowels, int consonants, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Character> letters = new ArrayList<>(vowels + consonants);
+        for (int i = 0; i < vowels; i++) {
+            letters.add(vowelDistribution.sample(random));
+        }
+        for (int i = 0; i < consonants; i++) {
+            letters.add(consonantDistribution.sample(random));
+        }
+        return letters;
     }
 
     /**
@@ -87,41 +513,492 @@ public class GameService {
      * @param word    The word to validate
      * @param letters A string of letters available in the game session
      * @return {@code true} if the word is valid; {@code false} otherwise
+     * @see #checkWord(String, String)
      */
     public boolean validateWord(String word, String letters) {
+        return checkWord(word, letters) == ValidationResult.VALID;
+    }
+
+    /**
+     * Checks a given word against the current set of available letters and the dictionary.
+     *
+     * <p>This is the hot path of every submission, so it avoids allocating: letters are counted
+     * case-insensitively in a per-thread {@code int[26]}, characters are classified by hand
+     * instead of with a regular expression, and the outcome is logged at debug level only. The
+     * cheap checks run before the dictionary lookup.</p>
+     *
+     * @param word    The word to validate
+     * @param letters A string of letters available in the game session
+     * @return why the word was rejected, or {@link ValidationResult#VALID}
+     */
+    public ValidationResult checkWord(String word, String letters) {
+        // The input validator accepts empty form fields, but an empty word is never an answer
+        if (letters == null || word == null || word.isEmpty() || !inputValidator.validateInput(word)) {
+            logger.debug("Word '{}' is not a valid input.", word);
+            return ValidationResult.INVALID_INPUT;
+        }
+
+        int[] letterCount = LETTER_COUNTS.get();
+        Arrays.fill(letterCount, 0);
+        for (int i = 0; i < letters.length(); i++) {
+            int index = (letters.charAt(i) | 0x20) - 'a'; // ASCII lower case
+            if (index >= 0 && index < 26) {
+                letterCount[index]++;
+            }
+        }
+
+        for (int i = 0; i < word.length(); i++) {
+            int index = (word.charAt(i) | 0x20) - 'a';
+            if (index < 0 || index >= 26 || letterCount[index]-- == 0) {
+                logger.debug("Word '{}' cannot be formed with letters '{}'.", word, letters);
+                return ValidationResult.LETTERS_UNAVAILABLE;
+            }
+        }
+
+        if (!isValidWord(word)) {
+            logger.debug("Word '{}' is not valid in the dictionary.", word);
+            return ValidationResult.NOT_IN_DICTIONARY;
+        }
+
+        logger.debug("Word '{}' is valid with the given letters.", word);
+        return ValidationResult.VALID;
+    }
+
+    public boolean isValidWord(String word) {
+        DictionarySnapshot current = snapshot.get();
+        if (current == null) {
+            return validateWordInLongestWordFinder(word);
+        }
+        return current.getDictionary().contains(word);
+    }
+
+    /**
+     * Finds the longest dictionary word that can be formed from the given letters.
+     *
+     * @param word the letters of the round
+     * @return the longest word, or {@code null} if no word can be formed
+     * @see #solve(String)
+     */
+    public String findLongestWord(String word) throws IOException {
+        return solve(word).getWord();
+    }
+
+    /**
+     * Finds the longest dictionary word that can be formed from the given letters within the
+     * configured time budget.
+     * <p>
+     * Results are cached by letter multiset, so every round that deals the same letters in any
+     * order or case is solved only once while it stays in the cache. When several threads miss
+     * the cache for the same letters at once, only the first one solves and the others wait for
+     * its result. A solve that runs out of time returns the best word found so far, marked as
+     * incomplete, and is neither cached nor allowed to hold a request thread any longer.
+     * </p>
+     * <p>
+     * The search itself runs on a dedicated, bounded solver pool rather than on the calling
+     * thread, so a burst of expensive rounds cannot starve the rest of the API.
+     * </p>
+     *
+     * @param letters the letters of the round
+     * @return the longest word found and whether the search finished
+     * @throws SolverOverloadedException if the solver pool and its queue are full
+     */
+    public SolveResult solve(String letters) {
+        Deadline deadline = Deadline.after(solveTimeBudget);
+        DictionarySnapshot current = snapshot.get();
+        if (current == null) {
+            return recordDeadline(LongestWordFinder.findLongestWord(getDictionary(), letters, deadline), letters);
+        }
+
+        String key = solverCacheKey(current, letters);
+        Optional<String> cached = solverCache.get(key);
+        if (cached != null) {
+            return new SolveResult(cached.orElse(null), true);
+        }
+
+        CompletableFuture<SolveResult> solve = new CompletableFuture<>();
+        CompletableFuture<SolveResult> running = inFlightSolves.putIfAbsent(key, solve);
+        if (running != null) {
+            coalescedSolves.increment();
+            return awaitSolve(running);
+        }
+        try {
+            SolveResult result = recordDeadline(runOnSolverExecutor(current.getSolver(), letters, deadline), letters);
+            if (result.isComplete()) {
+                solverCache.put(key, Optional.ofNullable(result.getWord()));
+            }
+            solve.complete(result);
+            return result;
+        } catch (Throwable e) {
+            // Errors too, or the callers waiting for this solve would wait forever
+            solve.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightSolves.remove(key, solve);
+        }
+    }
+
+    /**
+     * Hands a solve to the bulkhead and waits for it. Time spent in the queue counts against the
+     * deadline, and the wait gives up shortly after the time budget even if the solver does not,
+     * for example while it waits in the queue or runs an engine that cannot stop early.
+     *
+     * @return the solver's result, or an incomplete result without a word if the wait timed out
+     * @throws SolverOverloadedException if every solver thread is busy and the queue is full
+     */
+    private SolveResult runOnSolverExecutor(WordSolver solver, String letters, Deadline deadline) {
+        return awaitSolver(submitToSolver(() -> solver.findLongestWord(letters, deadline)),
+                new SolveResult(null, false));
+    }
+
+    /**
+     * Waits for solver work for the time budget plus {@link #SOLVER_WAIT_SLACK}, and rethrows its
+     * failure unwrapped. Without a time budget, waits until the work finishes.
+     *
+     * @param task     the solver work
+     * @param timedOut the value returned if the wait times out
+     * @return the result of the work, or {@code timedOut}
+     */
+    private <T> T awaitSolver(CompletableFuture<T> task, T timedOut) {
+        return awaitSolver(task, timedOut, System.nanoTime() + solveTimeBudget.plus(SOLVER_WAIT_SLACK).toNanos());
+    }
+
+    /**
+     * Waits for solver work until the given {@link System#nanoTime()}, so several solves can
+     * share one wait.
+     */
+    private <T> T awaitSolver(CompletableFuture<T> task, T timedOut, long waitUntil) {
+        if (solveTimeBudget.isZero() || solveTimeBudget.isNegative()) {
+            return awaitSolve(task);
+        }
         try {
-            if (!isValidWord(word) || !inputValidator.validateInput(word)) {
-                logger.warn("Word '{}' is not valid in the dictionary.", word);
-                return false;
+            return task.get(Math.max(0, waitUntil - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            // The work itself stops at its deadline; the caller stops waiting for it now
+            task.cancel(false);
+            return timedOut;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.cancel(false);
+            throw new SolverOverloadedException("The solve was interrupted. Please try again shortly.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
             }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
 
-            Map<Character, Integer> letterCount = new HashMap<>();
+    /**
+     * Starts solver work on the bulkhead.
+     *
+     * @throws SolverOverloadedException if every solver thread is busy and the queue is full
+     */
+    private <T> CompletableFuture<T> submitToSolver(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, solverExecutor);
+        } catch (RejectedExecutionException e) {
+            rejectedSolves.increment();
+            throw new SolverOverloadedException("The solver is busy. Please try again shortly.");
+        }
+    }
 
-            for (char letter : letters.toCharArray()) {
-                letterCount.put(letter, letterCount.getOrDefault(letter, 0) + 1);
+    private SolveResult recordDeadline(SolveResult result, String letters) {
+        if (!result.isComplete()) {
+            deadlineExceeded.increment();
+            logger.warn("Solving {} letters exceeded the {} ms budget, returning '{}'",
+                    letters.length(), solveTimeBudget.toMillis(), result.getWord());
+        }
+        return result;
+    }
+
+    /**
+     * Passes every dictionary word that can be formed from the given letters to a visitor,
+     * longest first, while the solver is still searching.
+     * <p>
+     * The search runs on the solver pool within the configured time budget, like
+     * {@link #solve(String)}, and hands its words over through a small bounded queue. The visitor
+     * is called on the calling thread, so slow visitors, such as ones writing to a client, never
+     * hold a solver thread: when the queue is full the search waits, and it gives up at its
+     * deadline like any other. Callers only see the words found in time.
+     * </p>
+     *
+     * @param letters the letters of the round
+     * @param visitor receives each word and returns {@code false} to stop the search
+     * @throws SolverOverloadedException if the solver pool and its queue are full
+     */
+    public void forEachWord(String letters, Predicate<String> visitor) {
+        Deadline deadline = Deadline.after(solveTimeBudget);
+        DictionarySnapshot current = snapshot.get();
+        WordSolver solver = current == null ? new SignatureWordSolver(getDictionary()) : current.getSolver();
+        BlockingQueue<String> handOff = new ArrayBlockingQueue<>(WORD_HAND_OFF_CAPACITY);
+        AtomicBoolean stopped = new AtomicBoolean();
+        CompletableFuture<Boolean> search = submitToSolver(() -> solver.forEachWord(letters,
+                word -> handOver(handOff, word, stopped, deadline), deadline));
+        boolean complete = true;
+        try {
+            long waitUntil = System.nanoTime() + solveTimeBudget.plus(SOLVER_WAIT_SLACK).toNanos();
+            while (true) {
+                String word = handOff.poll(WORD_HAND_OFF_POLL.toNanos(), TimeUnit.NANOSECONDS);
+                if (word != null) {
+                    if (!visitor.test(word)) {
+                        break;
+                    }
+                } else if (search.isDone()) {
+                    // Every word was queued before the search completed, so none is left behind
+                    boolean visiting = true;
+                    while (visiting && (word = handOff.poll()) != null) {
+                        visiting = visitor.test(word);
+                    }
+                    complete = !visiting || awaitSolve(search);
+                    break;
+                } else if (deadline != Deadline.NONE && System.nanoTime() - waitUntil >= 0) {
+                    complete = false;
+                    break;
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            complete = false;
+        } finally {
+            stopped.set(true);
+        }
+        if (!complete) {
+            deadlineExceeded.increment();
+            logger.warn("Listing the words of {} letters exceeded the {} ms budget",
+                    letters.length(), solveTimeBudget.toMillis());
+        }
+    }
 
-            for (char ch : word.toUpperCase().toCharArray()) {
-                if (!letterCount.containsKey(ch) || letterCount.get(ch) == 0) {
-                    logger.warn("Word '{}' cannot be formed with available letters.", word);
-                    return false;
+    /**
+     * Queues a word found on a solver thread for the caller of {@link #forEachWord(String, Predicate)},
+     * waiting while the queue is full until the caller stops or the deadline passes.
+     *
+     * @return {@code false} to stop the search
+     */
+    private static boolean handOver(BlockingQueue<String> handOff, String word, AtomicBoolean stopped,
+                                    Deadline deadline) {
+        try {
+            while (!stopped.get() && !deadline.isExpired()) {
+                if (handOff.offer(word, WORD_HAND_OFF_POLL.toNanos(), TimeUnit.NANOSECONDS)) {
+                    return true;
                 }
-                letterCount.put(ch, letterCount.get(ch) - 1);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+
+    /**
+     * Finds the longest dictionary words that can be formed from the given letters.
+     * <p>
+     * The search stops as soon as {@code limit} words are found, so asking for a few words is
+     * about as cheap as finding the longest one. If the time budget runs out first, the words
+     * found so far are returned.
+     * </p>
+     *
+     * @param letters the letters of the round
+     * @param limit   the maximum number of words to return
+     * @return up to {@code limit} words, longest first
+     * @throws SolverOverloadedException if the solver pool and its queue are full
+     */
+    public List<String> findTopWords(String letters, int limit) {
+        List<String> words = new ArrayList<>(Math.min(limit, 64));
+        if (limit > 0) {
+            forEachWord(letters, word -> {
+                words.add(word);
+                return words.size() < limit;
+            });
+        }
+        return words;
+    }
+
+    /**
+     * Solves a round completely: finds its longest word and counts every word it allows.
+     * <p>
+     * The search runs on the calling thread without a time budget, so this is meant for
+     * background producers such as {@link RoundPool} rather than for request threads, which
+     * should use {@link #describeRoundWithinBudget(String)}.
+     * </p>
+     *
+     * @param letters the letters of the round
+     * @return the solved round, tagged with the dictionary version it was solved against
+     */
+    public Round describeRound(String letters) {
+        return describeRound(letters, Deadline.NONE);
+    }
 
-            logger.info("Word '{}' is valid with the given letters.", word);
+    /**
+     * Solves a round completely on the solver pool within the configured time budget.
+     *
+     * @param letters the letters of the round
+     * @return the solved round, or {@code null} if the budget ran out first
+     * @throws SolverOverloadedException if the solver pool and its queue are full
+     */
+    public Round describeRoundWithinBudget(String letters) {
+        Deadline deadline = Deadline.after(solveTimeBudget);
+        Round round = awaitSolver(submitToSolver(() -> describeRound(letters, deadline)), null);
+        if (round == null) {
+            deadlineExceeded.increment();
+            logger.warn("Describing a round of {} letters exceeded the {} ms budget",
+                    letters.length(), solveTimeBudget.toMillis());
+        }
+        return round;
+    }
+
+    private Round describeRound(String letters, Deadline deadline) {
+        DictionarySnapshot current = snapshot.get();
+        WordSolver solver = current == null ? new SignatureWordSolver(getDictionary()) : current.getSolver();
+        String[] longestWord = new String[1];
+        int[] wordCount = new int[1];
+        boolean complete = solver.forEachWord(letters, word -> {
+            if (longestWord[0] == null) {
+                longestWord[0] = word;
+            }
+            wordCount[0]++;
             return true;
-        } catch (Exception e) {
-            logger.error("Error validating word '{}' with letters '{}': {}", word, letters, e.getMessage(), e);
-            return false;
+        }, deadline);
+        if (!complete) {
+            return null;
         }
+        return new Round(letters, longestWord[0], wordCount[0], current == null ? 0 : current.getVersion());
     }
 
-    public boolean isValidWord(String word) {
-        return validateWordInLongestWordFinder(word);
+    /**
+     * Seeds the result cache with the longest word of a pre-solved round, so validating words
+     * for it never has to solve. Rounds solved against an older snapshot are ignored.
+     *
+     * @param round a round returned by {@link #describeRound(String)}
+     */
+    public void rememberRound(Round round) {
+        DictionarySnapshot current = snapshot.get();
+        if (current != null && current.getVersion() == round.getDictionaryVersion()) {
+            solverCache.put(solverCacheKey(current, round.getLetters()), Optional.ofNullable(round.getLongestWord()));
+        }
     }
 
-    public String findLongestWord(String word) throws IOException {
-        return findLongestWordInLongestWordFinder(word);
+    /**
+     * Finds the longest word for many rounds at once.
+     * <p>
+     * Rounds are grouped by letter multiset so each distinct set is solved only once. Sets that
+     * are not cached are submitted to the solver pool together and share one deadline, so the
+     * whole batch takes about as long as a single solve. Complete results are cached like those
+     * of {@link #solve(String)}.
+     * </p>
+     * <p>
+     * A set the pool rejects, or whose solve fails, does not affect the others: it maps to
+     * {@code null}, and the caller reports it for those rounds only.
+     * </p>
+     *
+     * @param letterSets the letters of each round
+     * @return the result for each given letter string, or {@code null} where it could not be solved
+     */
+    public Map<String, SolveResult> findLongestWords(Collection<String> letterSets) {
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        for (String letters : letterSets) {
+            groups.computeIfAbsent(canonicalLetters(letters), key -> new ArrayList<>()).add(letters);
+        }
+
+        Deadline deadline = Deadline.after(solveTimeBudget);
+        DictionarySnapshot current = snapshot.get();
+        WordSolver solver = current == null ? new SignatureWordSolver(getDictionary()) : current.getSolver();
+        List<List<String>> distinct = new ArrayList<>(groups.values());
+        List<CompletableFuture<SolveResult>> solves = new ArrayList<>(distinct.size());
+        for (List<String> group : distinct) {
+            String letters = group.get(0);
+            Optional<String> cached = current == null ? null : solverCache.get(solverCacheKey(current, letters));
+            if (cached != null) {
+                solves.add(CompletableFuture.completedFuture(new SolveResult(cached.orElse(null), true)));
+                continue;
+            }
+            try {
+                solves.add(submitToSolver(() -> solver.findLongestWord(letters, deadline)));
+            } catch (SolverOverloadedException e) {
+                solves.add(null);
+            }
+        }
+
+        long waitUntil = System.nanoTime() + solveTimeBudget.plus(SOLVER_WAIT_SLACK).toNanos();
+        Map<String, SolveResult> longestWords = new HashMap<>();
+        for (int i = 0; i < distinct.size(); i++) {
+            String letters = distinct.get(i).get(0);
+            SolveResult result = null;
+            if (solves.get(i) != null) {
+                try {
+                    result = recordDeadline(awaitSolver(solves.get(i), new SolveResult(null, false), waitUntil), letters);
+                    if (result.isComplete() && current != null) {
+                        solverCache.put(solverCacheKey(current, letters), Optional.ofNullable(result.getWord()));
+                    }
+                } catch (RuntimeException e) {
+                    logger.error("Failed to solve {} in a batch", letters, e);
+                }
+            }
+            for (String round : distinct.get(i)) {
+                longestWords.put(round, result);
+            }
+        }
+        return longestWords;
+    }
+
+    private static String solverCacheKey(DictionarySnapshot current, String letters) {
+        return current.getVersion() + ":" + canonicalLetters(letters);
+    }
+
+    /**
+     * Waits for a solve started by another thread and rethrows its failure unwrapped.
+     *
+     * @param running the other thread's solve
+     * @return its result
+     */
+    private static <T> T awaitSolve(CompletableFuture<T> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reports statistics about the longest word solver.
+     *
+     * @return a map of statistic groups, such as the result cache counters
+     */
+    public Map<String, Object> getSolverStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("engine", solverEngine);
+        stats.put("dictionaryVersion", getDictionaryVersion());
+        stats.put("cache", solverCache.getStats());
+        stats.put("inFlight", inFlightSolves.size());
+        stats.put("coalesced", coalescedSolves.sum());
+        stats.put("timeBudgetMs", solveTimeBudget.toMillis());
+        stats.put("deadlineExceeded", deadlineExceeded.sum());
+        Map<String, Object> pool = new LinkedHashMap<>();
+        pool.put("threads", solverExecutor.getPoolSize());
+        pool.put("active", solverExecutor.getActiveCount());
+        pool.put("queued", solverExecutor.getQueue().size());
+        pool.put("queueCapacity", solverQueueCapacity);
+        pool.put("rejected", rejectedSolves.sum());
+        stats.put("pool", pool);
+        return stats;
+    }
+
+    /**
+     * Normalizes round letters so that every ordering and casing of the same letters maps to the
+     * same key.
+     *
+     * @param letters the letters of the round
+     * @return the sorted, lower-cased letters
+     */
+    static String canonicalLetters(String letters) {
+        return signatureOf(letters.toLowerCase(Locale.ROOT));
     }
 }
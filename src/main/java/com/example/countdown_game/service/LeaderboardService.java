@@ -0,0 +1,168 @@
+package com.example.countdown_game.service;
+
+import com.example.countdown_game.dto.ScoreView;
+import com.example.countdown_game.repository.ScoreRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps global leaderboards and per-player standings in memory, updated as scores are recorded.
+ *
+ * <p>Each player's {@link PlayerStanding} lives in a {@link ConcurrentHashMap}, and every
+ * leaderboard is a {@link ConcurrentSkipListSet} of standings sorted by its metric. Recording an
+ * answer replaces the player's standing in the map and in each board; reading the top N walks the
+ * first N entries of a board without locking or touching the database. The boards are rebuilt
+ * from the {@code score} table at startup.</p>
+ */
+@Service
+public class LeaderboardService {
+    private static final Logger logger = LoggerFactory.getLogger(LeaderboardService.class);
+
+    /**
+     * Number of scores read per query while rebuilding.
+     */
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    /**
+     * What a leaderboard ranks players by.
+     */
+    public enum Metric {
+        /** The sum of all of a player's scores. */
+        TOTAL_SCORE(Comparator.comparingLong(PlayerStanding::getTotalScore).reversed()),
+        /** The length of the longest word a player has scored with. */
+        BEST_WORD(Comparator.comparingInt(PlayerStanding::getBestWordLength).reversed()),
+        /** The average length of a player's scoring words. */
+        AVERAGE_WORD_LENGTH(Comparator.comparingDouble(PlayerStanding::getAverageWordLength).reversed());
+
+        private final Comparator<PlayerStanding> order;
+
+        Metric(Comparator<PlayerStanding> byMetric) {
+            // Ties are broken by name so that every player has exactly one place on the board
+            this.order = byMetric.thenComparing(PlayerStanding::getPlayerName);
+        }
+
+        /**
+         * Parses a metric name such as {@code total-score} or {@code BEST_WORD}.
+         *
+         * @param name the metric name, in any case, with dashes or underscores
+         * @return the metric
+         * @throws IllegalArgumentException if no metric has that name
+         */
+        public static Metric parse(String name) {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    private final ScoreRepository scoreRepository;
+
+    private final ConcurrentMap<String, PlayerStanding> standings = new ConcurrentHashMap<>();
+
+    private final Map<Metric, NavigableSet<PlayerStanding>> boards = new EnumMap<>(Metric.class);
+
+    /**
+     * Constructor to inject the {@link ScoreRepository} the boards are rebuilt from.
+     *
+     * @param scoreRepository the repository holding every saved score
+     */
+    public LeaderboardService(ScoreRepository scoreRepository) {
+        this.scoreRepository = scoreRepository;
+        for (Metric metric : Metric.values()) {
+            boards.put(metric, new ConcurrentSkipListSet<>(metric.order));
+        }
+    }
+
+    /**
+     * Rebuilds the boards from the saved scores, reading them in id order one batch at a time.
+     */
+    @PostConstruct
+    public void rebuild() {
+        clear();
+        long start = System.nanoTime();
+        long lastId = Long.MIN_VALUE;
+        int count = 0;
+        List<ScoreView> batch;
+        do {
+            batch = scoreRepository.findBatchAfter(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (ScoreView score : batch) {
+                record(score.getPlayerName(), score.getAnswered(), score.getScoreValue());
+                lastId = score.getId();
+            }
+            count += batch.size();
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        logger.info("Rebuilt leaderboards for {} players from {} scores in {} ms",
+                standings.size(), count, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Adds one answer to a player's standing and moves the player on every board.
+     *
+     * @param playerName the name of the player
+     * @param word       the submitted word
+     * @param scoreValue the score the word earned
+     */
+    public void record(String playerName, String word, int scoreValue) {
+        // compute() runs one update per player at a time, so the boards never hold two standings
+        // of the same player
+        standings.compute(playerName, (name, previous) -> {
+            PlayerStanding current = (previous == null ? PlayerStanding.empty(name) : previous).plus(word, scoreValue);
+            for (NavigableSet<PlayerStanding> board : boards.values()) {
+                if (previous != null) {
+                    board.remove(previous);
+                }
+                board.add(current);
+            }
+            return current;
+        });
+    }
+
+    /**
+     * Reads the best players by a metric.
+     *
+     * @param metric the metric to rank by
+     * @param limit  the largest number of players to return
+     * @return up to {@code limit} standings, best first
+     */
+    public List<PlayerStanding> top(Metric metric, int limit) {
+        List<PlayerStanding> top = new ArrayList<>(Math.min(limit, 64));
+        Iterator<PlayerStanding> board = boards.get(metric).iterator();
+        while (top.size() < limit && board.hasNext()) {
+            top.add(board.next());
+        }
+        return top;
+    }
+
+    /**
+     * Reads one player's standing.
+     *
+     * @param playerName the name of the player
+     * @return the standing, or {@code null} if the player has no recorded answers
+     */
+    public PlayerStanding getStanding(String playerName) {
+        return standings.get(playerName);
+    }
+
+    /**
+     * Forgets every standing, for example after all scores were deleted.
+     */
+    public void clear() {
+        standings.clear();
+        for (NavigableSet<PlayerStanding> board : boards.values()) {
+            board.clear();
+        }
+    }
+}
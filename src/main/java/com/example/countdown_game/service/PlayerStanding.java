@@ -0,0 +1,117 @@
+package com.example.countdown_game.service;
+
+/**
+ * An immutable summary of one player's results, as ranked by the leaderboards.
+ *
+ * <p>{@link LeaderboardService} replaces a player's standing with a new one on every recorded
+ * answer, so a standing read from a leaderboard never changes underneath the reader.</p>
+ */
+public final class PlayerStanding {
+
+    private final String playerName;
+    private final long totalScore;
+    private final int answers;
+    private final int validWords;
+    private final long validLetters;
+    private final String bestWord;
+
+    /**
+     * Creates a standing.
+     *
+     * @param playerName   the name of the player
+     * @param totalScore   the sum of the player's scores
+     * @param answers      the number of words the player submitted
+     * @param validWords   the number of submitted words that scored
+     * @param validLetters the total length of the words that scored
+     * @param bestWord     the longest word that scored, or {@code null} if none did
+     */
+    public PlayerStanding(String playerName, long totalScore, int answers, int validWords, long validLetters,
+                          String bestWord) {
+        this.playerName = playerName;
+        this.totalScore = totalScore;
+        this.answers = answers;
+        this.validWords = validWords;
+        this.validLetters = validLetters;
+        this.bestWord = bestWord;
+    }
+
+    /**
+     * Creates the standing of a player with no answers yet.
+     *
+     * @param playerName the name of the player
+     * @return an empty standing
+     */
+    public static PlayerStanding empty(String playerName) {
+        return new PlayerStanding(playerName, 0, 0, 0, 0, null);
+    }
+
+    /**
+     * Adds one answer to this standing.
+     *
+     * @param word       the submitted word
+     * @param scoreValue the score it earned; words scoring {@code 0} count as answers only
+     * @return the new standing
+     */
+    public PlayerStanding plus(String word, int scoreValue) {
+        if (scoreValue <= 0 || word == null) {
+            return new PlayerStanding(playerName, totalScore, answers + 1, validWords, validLetters, bestWord);
+        }
+        String best = bestWord == null || word.length() > bestWord.length() ? word : bestWord;
+        return new PlayerStanding(playerName, totalScore + scoreValue, answers + 1, validWords + 1,
+                validLetters + word.length(), best);
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return the player's name
+     */
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    /**
+     * Gets the sum of the player's scores.
+     *
+     * @return the total score
+     */
+    public long getTotalScore() {
+        return totalScore;
+    }
+
+    /**
+     * Gets the number of words the player submitted.
+     *
+     * @return the answer count
+     */
+    public int getAnswers() {
+        return answers;
+    }
+
+    /**
+     * Gets the longest word that scored.
+     *
+     * @return the best word, or {@code null} if no word scored
+     */
+    public String getBestWord() {
+        return bestWord;
+    }
+
+    /**
+     * Gets the length of the longest word that scored.
+     *
+     * @return the length, or {@code 0} if no word scored
+     */
+    public int getBestWordLength() {
+        return bestWord == null ? 0 : bestWord.length();
+    }
+
+    /**
+     * Gets the average length of the words that scored.
+     *
+     * @return the average length, or {@code 0} if no word scored
+     */
+    public double getAverageWordLength() {
+        return validWords == 0 ? 0 : (double) validLetters / validWords;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.countdown_game.service;
+
+import com.example.countdown_game.dto.PlayerStatsView;
+import com.example.countdown_game.dto.ScoreView;
+import com.example.countdown_game.entity.PlayerStats;
+import com.example.countdown_game.entity.Score;
+import com.example.countdown_game.repository.PlayerStatsRepository;
+import com.example.countdown_game.repository.ScoreRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Maintains the per-player rollup rows in {@code player_stats}.
+ *
+ * <p>{@link ScoreWriter} hands every batch it writes to {@link #apply(Collection)} inside the
+ * transaction that inserts the scores, so a rollup is only changed together with the scores it
+ * counts. {@code apply} loads the rollups of the players in the batch, adds the new scores to
+ * them and saves them back. Reading a player's statistics is then a primary-key lookup, however
+ * long their history. The writer serializes updates, so two batches for the same player never
+ * overwrite each other's totals.</p>
+ *
+ * <p>If the rollup table is empty at startup while scores exist, it is filled from the
+ * {@code score} table once.</p>
+ */
+@Service
+public class PlayerStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(PlayerStatsService.class);
+
+    /**
+     * Number of scores read per query while backfilling.
+     */
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final PlayerStatsRepository playerStatsRepository;
+
+    private final ScoreRepository scoreRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructs a PlayerStatsService.
+     *
+     * @param playerStatsRepository the repository holding the rollups
+     * @param scoreRepository       the repository the rollups are backfilled from
+     * @param transactionManager    the transaction manager each update runs in
+     */
+    public PlayerStatsService(PlayerStatsRepository playerStatsRepository, ScoreRepository scoreRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.playerStatsRepository = playerStatsRepository;
+        this.scoreRepository = scoreRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Fills the rollups from the saved scores if they were never built.
+     */
+    @PostConstruct
+    public void backfill() {
+        if (playerStatsRepository.count() > 0 || scoreRepository.count() == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        long lastId = Long.MIN_VALUE;
+        int count = 0;
+        List<ScoreView> batch;
+        do {
+            batch = scoreRepository.findBatchAfter(lastId, PageRequest.of(0, BACKFILL_BATCH_SIZE));
+            List<Score> scores = new ArrayList<>(batch.size());
+            for (ScoreView view : batch) {
+                scores.add(new Score(view.getPlayerName(), view.getScoreValue(), view.getSelectedAlphabet(),
+                        view.getAnswered(), view.getLongestPossibleWord()));
+                lastId = view.getId();
+            }
+            apply(scores);
+            count += batch.size();
+        } while (batch.size() == BACKFILL_BATCH_SIZE);
+        logger.info("Backfilled player statistics from {} scores in {} ms", count,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Adds scores to their players' rollups, joining the caller's transaction if there is one.
+     *
+     * @param scores the scores, in any order and for any players
+     */
+    public synchronized void apply(Collection<Score> scores) {
+        if (scores.isEmpty()) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, PlayerStats> rollups = new LinkedHashMap<>();
+            for (Score score : scores) {
+                rollups.put(score.getPlayerName(), null);
+            }
+            for (PlayerStats stats : playerStatsRepository.findAllById(rollups.keySet())) {
+                rollups.put(stats.getPlayerName(), stats);
+            }
+            for (Score score : scores) {
+                PlayerStats stats = rollups.get(score.getPlayerName());
+                if (stats == null) {
+                    stats = new PlayerStats(score.getPlayerName());
+                    rollups.put(score.getPlayerName(), stats);
+                }
+                stats.record(score.getAnswered(), score.getScoreValue(), score.getLongestPossibleWord());
+            }
+            playerStatsRepository.saveAll(rollups.values());
+        });
+    }
+
+    /**
+     * Reads one player's statistics from their rollup.
+     *
+     * @param playerName the name of the player
+     * @return the statistics, or empty if the player has no written scores
+     */
+    public Optional<PlayerStatsView> getStats(String playerName) {
+        return playerStatsRepository.findById(playerName).map(PlayerStatsService::toView);
+    }
+
+    /**
+     * Deletes every rollup, for example after all scores were deleted.
+     */
+    public synchronized void clear() {
+        playerStatsRepository.deleteAll();
+    }
+
+    private static PlayerStatsView toView(PlayerStats stats) {
+        long games = stats.getGamesPlayed();
+        return new PlayerStatsView(stats.getPlayerName(), games, stats.getHits(),
+                games == 0 ? 0 : (double) stats.getHits() / games,
+                games == 0 ? 0 : (double) stats.getTotalScore() / games,
+                new TreeMap<>(stats.getLengthCounts()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.countdown_game.service;
+
+/**
+ * An immutable, pre-solved round: its letters together with the answers computed for them.
+ *
+ * <p>Rounds are produced ahead of time by {@link RoundPool}, so handing one to a player costs
+ * nothing and its longest word is already known when the player submits.</p>
+ */
+public final class Round {
+
+    /**
+     * How hard a round is, judged by the length of its longest word.
+     */
+    public enum Difficulty {
+        /** The best word has eight letters or more. */
+        EASY,
+        /** The best word has six or seven letters. */
+        MEDIUM,
+        /** The best word has five letters or fewer. */
+        HARD;
+
+        /**
+         * Classifies a round by its longest word.
+         *
+         * @param longestWordLength the length of the longest word, {@code 0} if there is none
+         * @return the difficulty of the round
+         */
+        public static Difficulty of(int longestWordLength) {
+            if (longestWordLength >= 8) {
+                return EASY;
+            }
+            return longestWordLength >= 6 ? MEDIUM : HARD;
+        }
+    }
+
+    private final String letters;
+    private final String longestWord;
+    private final int wordCount;
+    private final long dictionaryVersion;
+
+    /**
+     * Creates a round.
+     *
+     * @param letters           the letters dealt, vowels first
+     * @param longestWord       the longest word that can be formed, or {@code null} if none
+     * @param wordCount         the number of dictionary words that can be formed
+     * @param dictionaryVersion the dictionary snapshot the round was solved against
+     */
+    public Round(String letters, String longestWord, int wordCount, long dictionaryVersion) {
+        this.letters = letters;
+        this.longestWord = longestWord;
+        this.wordCount = wordCount;
+        this.dictionaryVersion = dictionaryVersion;
+    }
+
+    /**
+     * Gets the letters dealt.
+     *
+     * @return the letters, vowels first
+     */
+    public String getLetters() {
+        return letters;
+    }
+
+    /**
+     * Gets the longest word that can be formed from the letters.
+     *
+     * @return the word, or {@code null} if no word can be formed
+     */
+    public String getLongestWord() {
+        return longestWord;
+    }
+
+    /**
+     * Gets the number of dictionary words that can be formed from the letters.
+     *
+     * @return the word count
+     */
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Gets the version of the dictionary snapshot the round was solved against.
+     *
+     * @return the snapshot version
+     */
+    public long getDictionaryVersion() {
+        return dictionaryVersion;
+    }
+
+    /**
+     * Gets how hard the round is.
+     *
+     * @return the difficulty, derived from the longest word
+     */
+    public Difficulty getDifficulty() {
+        return Difficulty.of(longestWord == null ? 0 : longestWord.length());
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.countdown_game.service;
+
+import com.example.countdown_game.exception.SolverOverloadedException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A pool of rounds that are dealt and solved before any player asks for them.
+ *
+ * <p>A low-priority background thread draws letters with {@link GameService#generateLetters(int, int)},
+ * solves them with {@link GameService#describeRound(String)} and keeps them in a bounded ring
+ * buffer, blocking while it is full. Rounds that miss the configured target difficulty are
+ * thrown away. Serving a round is then a single poll, and the round's longest word is put in the
+ * solver cache so validating submissions for it does not solve again.</p>
+ */
+@Service
+public class RoundPool {
+    private static final Logger logger = LoggerFactory.getLogger(RoundPool.class);
+
+    private final GameService gameService;
+
+    /**
+     * Ready rounds, oldest first. An {@link ArrayBlockingQueue} is a fixed ring buffer, so the
+     * pool never allocates once full.
+     */
+    private final BlockingQueue<Round> rounds;
+
+    private final int capacity;
+
+    private final int vowels;
+
+    private final int consonants;
+
+    /**
+     * The only difficulty kept in the pool, or {@code null} to keep every round.
+     */
+    private final Round.Difficulty targetDifficulty;
+
+    private final LongAdder produced = new LongAdder();
+
+    private final LongAdder discarded = new LongAdder();
+
+    private final LongAdder served = new LongAdder();
+
+    private final LongAdder stale = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Rounds dealt and solved on a request thread because the pool was empty.
+     */
+    private final LongAdder fallbacks = new LongAdder();
+
+    /**
+     * Fallback rounds that could not be solved within the solver's time budget.
+     */
+    private final LongAdder fallbackTimeouts = new LongAdder();
+
+    private volatile Thread producer;
+
+    /**
+     * Constructs a RoundPool.
+     *
+     * @param gameService      the service dealing and solving rounds
+     * @param capacity         the number of rounds kept ready, or {@code 0} to deal every round on demand
+     * @param targetDifficulty {@code easy}, {@code medium} or {@code hard}, or blank to keep every round
+     * @param vowels           the number of vowels in each round
+     * @param consonants       the number of consonants in each round
+     */
+    @Autowired
+    public RoundPool(GameService gameService,
+                     @Value("${game.rounds.pool-size:256}") int capacity,
+                     @Value("${game.rounds.difficulty:}") String targetDifficulty,
+                     @Value("${game.rounds.vowels:3}") int vowels,
+                     @Value("${game.rounds.consonants:6}") int consonants) {
+        this.gameService = gameService;
+        this.capacity = capacity;
+        this.rounds = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.targetDifficulty = targetDifficulty.isBlank()
+                ? null
+                : Round.Difficulty.valueOf(targetDifficulty.trim().toUpperCase(Locale.ROOT));
+        this.vowels = vowels;
+        this.consonants = consonants;
+    }
+
+    /**
+     * Starts the background producer.
+     * <p>
+     * It runs at the lowest thread priority and waits for the dictionary to be ready, so it never
+     * competes with the warm-up or with request threads for CPU.
+     * </p>
+     */
+    @PostConstruct
+    public void start() {
+        if (capacity <= 0) {
+            return;
+        }
+        Thread thread = new Thread(this::produce, "round-producer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        producer = thread;
+        thread.start();
+    }
+
+    /**
+     * Stops the background producer when the application shuts down.
+     */
+    @PreDestroy
+    public void stop() {
+        Thread thread = producer;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    private void produce() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (gameService.getDictionaryState() != GameService.DictionaryState.READY) {
+                    TimeUnit.MILLISECONDS.sleep(100);
+                    continue;
+                }
+                Round round = produceRound();
+                if (round != null) {
+                    rounds.put(round);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                logger.warn("Failed to produce a round, retrying shortly", e);
+                try {
+                    TimeUnit.SECONDS.sleep(1);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Deals and solves one round.
+     *
+     * @return the round, or {@code null} if it missed the target difficulty
+     */
+    public Round produceRound() {
+        Round round = gameService.describeRound(toLetters(gameService.generateLetters(vowels, consonants)));
+        produced.increment();
+        if (targetDifficulty != null && round.getDifficulty() != targetDifficulty) {
+            discarded.increment();
+            return null;
+        }
+        return round;
+    }
+
+    /**
+     * Takes a ready round out of the pool.
+     * <p>
+     * Rounds solved against a dictionary that has since been reloaded are skipped. If the pool is
+     * empty, one round of any difficulty is dealt and solved on the solver pool within its time
+     * budget instead.
+     * </p>
+     *
+     * @return a solved round
+     * @throws SolverOverloadedException if the pool is empty and the round could not be solved in time
+     */
+    public Round take() {
+        long version = gameService.getDictionaryVersion();
+        Round round;
+        while ((round = rounds.poll()) != null) {
+            if (round.getDictionaryVersion() == version) {
+                served.increment();
+                gameService.rememberRound(round);
+                return round;
+            }
+            stale.increment();
+        }
+
+        misses.increment();
+        round = gameService.describeRoundWithinBudget(toLetters(gameService.generateLetters(vowels, consonants)));
+        if (round == null) {
+            fallbackTimeouts.increment();
+            throw new SolverOverloadedException("No round is ready. Please try again shortly.");
+        }
+        fallbacks.increment();
+        gameService.rememberRound(round);
+        return round;
+    }
+
+    /**
+     * Reports how full the pool is and how rounds were used.
+     *
+     * @return a map of statistic names to values
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", rounds.size());
+        stats.put("capacity", capacity);
+        stats.put("targetDifficulty", targetDifficulty);
+        stats.put("produced", produced.sum());
+        stats.put("discarded", discarded.sum());
+        stats.put("served", served.sum());
+        stats.put("stale", stale.sum());
+        stats.put("misses", misses.sum());
+        stats.put("fallbacks", fallbacks.sum());
+        stats.put("fallbackTimeouts", fallbackTimeouts.sum());
+        return stats;
+    }
+
+    private static String toLetters(List<Character> letters) {
+        StringBuilder builder = new StringBuilder(letters.size());
+        for (Character letter : letters) {
+            builder.append(letter);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.countdown_game.service;
+
+import java.time.Instant;
+
+/**
+ * A round issued to a player, held on the server until it expires.
+ *
+ * <p>Players refer to the session by its id instead of sending the letters back, so the server
+ * validates against the letters it dealt and the longest word it already knows.</p>
+ */
+public final class RoundSession {
+
+    private final String id;
+    private final Round round;
+    private final Instant deadline;
+    private final Instant expiresAt;
+
+    /**
+     * Creates a session.
+     *
+     * @param id        the id handed to the player
+     * @param round     the pre-solved round
+     * @param deadline  when the player's time to answer runs out
+     * @param expiresAt when the round stops accepting submissions and is released
+     */
+    public RoundSession(String id, Round round, Instant deadline, Instant expiresAt) {
+        this.id = id;
+        this.round = round;
+        this.deadline = deadline;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Gets the id handed to the player.
+     *
+     * @return the session id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * Gets the round that was dealt.
+     *
+     * @return the round
+     */
+    public Round getRound() {
+        return round;
+    }
+
+    /**
+     * Gets when the player's time to answer runs out.
+     *
+     * @return the answer deadline
+     */
+    public Instant getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Gets when the round stops accepting submissions and is released, which is the deadline
+     * plus a short grace period.
+     *
+     * @return the expiry time
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.countdown_game.service;
+
+import com.example.countdown_game.exception.RoundClosedException;
+import com.example.countdown_game.exception.RoundNotFoundException;
+import com.example.countdown_game.utils.HashedWheelTimer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds the rounds issued to players, keyed by a server-generated id, and closes each one when
+ * its time runs out.
+ *
+ * <p>The server owns the round timer: every session gets one task on a {@link HashedWheelTimer}
+ * that closes the round and releases its state once the deadline and a short grace period for
+ * network latency have passed. Scheduling costs the same however many rounds are running, and a
+ * late submission is rejected by comparing its arrival time with the stored deadline.</p>
+ *
+ * <p>Once a round is released, only its id and deadline are kept, as a tombstone, so a
+ * submission that arrives after the timer fired is still told the round closed rather than that
+ * it never existed. Tombstones are dropped by the same timer after a retention period.</p>
+ *
+ * <p>Sessions live in a {@link ConcurrentHashMap}, so lookups never block each other, and memory
+ * stays proportional to the rounds currently being played.</p>
+ */
+@Service
+public class RoundSessionStore {
+    private static final Logger logger = LoggerFactory.getLogger(RoundSessionStore.class);
+
+    /**
+     * How long a closed round is remembered when no retention is configured.
+     */
+    private static final Duration DEFAULT_TOMBSTONE_RETENTION = Duration.ofMinutes(5);
+
+    private final ConcurrentMap<String, RoundSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * The deadlines of released rounds, keyed by session id.
+     */
+    private final ConcurrentMap<String, Instant> closedRounds = new ConcurrentHashMap<>();
+
+    /**
+     * How long a player has to answer.
+     */
+    private final Duration timeLimit;
+
+    /**
+     * How long after the deadline a submission is still accepted, to absorb network latency.
+     */
+    private final Duration grace;
+
+    /**
+     * How long a released round is still reported as closed rather than unknown.
+     */
+    private final Duration tombstoneRetention;
+
+    private final Clock clock;
+
+    private final HashedWheelTimer timer;
+
+    private final LongAdder opened = new LongAdder();
+
+    private final LongAdder closed = new LongAdder();
+
+    private final LongAdder lateSubmissions = new LongAdder();
+
+    /**
+     * Constructs a RoundSessionStore.
+     *
+     * @param timeLimitSeconds the time a player has to answer
+     * @param graceMillis      the time after the deadline during which submissions are still accepted
+     * @param tickMillis       the precision of the round timer
+     * @param tombstoneSeconds how long a closed round is still reported as closed rather than unknown
+     */
+    @Autowired
+    public RoundSessionStore(@Value("${game.rounds.time-limit-seconds:30}") long timeLimitSeconds,
+                             @Value("${game.rounds.grace-millis:2000}") long graceMillis,
+                             @Value("${game.rounds.timer-tick-ms:100}") long tickMillis,
+                             @Value("${game.rounds.tombstone-seconds:300}") long tombstoneSeconds) {
+        this(Duration.ofSeconds(timeLimitSeconds), Duration.ofMillis(graceMillis), Duration.ofSeconds(tombstoneSeconds),
+                Clock.systemUTC(), new HashedWheelTimer("round-timer", Duration.ofMillis(tickMillis), 512));
+    }
+
+    /**
+     * Constructs a RoundSessionStore that reads the time from the given clock and closes rounds
+     * with the given timer, remembering closed rounds for five minutes.
+     *
+     * @param timeLimit the time a player has to answer
+     * @param grace     the time after the deadline during which submissions are still accepted
+     * @param clock     the source of the current time
+     * @param timer     the timer that closes rounds
+     */
+    public RoundSessionStore(Duration timeLimit, Duration grace, Clock clock, HashedWheelTimer timer) {
+        this(timeLimit, grace, DEFAULT_TOMBSTONE_RETENTION, clock, timer);
+    }
+
+    /**
+     * Constructs a RoundSessionStore that reads the time from the given clock and closes rounds
+     * with the given timer.
+     *
+     * @param timeLimit the time a player has to answer
+     * @param grace     the time after the deadline during which submissions are still accepted
+     * @param tombstoneRetention how long a closed round is still reported as closed rather than unknown
+     * @param clock     the source of the current time
+     * @param timer     the timer that closes rounds
+     */
+    public RoundSessionStore(Duration timeLimit, Duration grace, Duration tombstoneRetention, Clock clock,
+                             HashedWheelTimer timer) {
+        if (timeLimit.isNegative() || timeLimit.isZero()) {
+            throw new IllegalArgumentException("The round time limit must be positive: " + timeLimit);
+        }
+        this.timeLimit = timeLimit;
+        this.grace = grace.isNegative() ? Duration.ZERO : grace;
+        this.tombstoneRetention = tombstoneRetention.isNegative() ? Duration.ZERO : tombstoneRetention;
+        this.clock = clock;
+        this.timer = timer;
+    }
+
+    /**
+     * Stops the round timer when the application shuts down.
+     */
+    @PreDestroy
+    public void stopTimer() {
+        timer.close();
+    }
+
+    /**
+     * Issues a round to a player and starts its timer.
+     *
+     * @param round the pre-solved round
+     * @return the new session, with its id and deadline
+     */
+    public RoundSession open(Round round) {
+        Instant now = clock.instant();
+        Instant deadline = now.plus(timeLimit);
+        RoundSession session = new RoundSession(UUID.randomUUID().toString(), round, deadline, deadline.plus(grace));
+        sessions.put(session.getId(), session);
+        opened.increment();
+        timer.schedule(() -> close(session), timeLimit.plus(grace));
+        return session;
+    }
+
+    /**
+     * Looks up a round that still accepts submissions.
+     *
+     * @param id the session id handed to the player
+     * @return the session
+     * @throws RoundNotFoundException if the id was never issued or its round closed too long ago
+     * @throws RoundClosedException   if the round's time ran out
+     */
+    public RoundSession get(String id) {
+        RoundSession session = sessions.get(id);
+        if (session == null) {
+            Instant deadline = closedRounds.get(id);
+            if (deadline != null) {
+                lateSubmissions.increment();
+                throw new RoundClosedException("Round " + id + " closed at " + deadline + ".");
+            }
+            throw new RoundNotFoundException("Round " + id + " does not exist.");
+        }
+        if (!clock.instant().isBefore(session.getExpiresAt())) {
+            lateSubmissions.increment();
+            throw new RoundClosedException("Round " + id + " closed at " + session.getDeadline() + ".");
+        }
+        return session;
+    }
+
+    /**
+     * Closes a round whose time ran out and releases its state, leaving a tombstone behind.
+     */
+    private void close(RoundSession session) {
+        String id = session.getId();
+        // The tombstone goes in first, so a lookup never finds neither
+        closedRounds.put(id, session.getDeadline());
+        if (sessions.remove(id, session)) {
+            closed.increment();
+            logger.debug("Closed round {}", id);
+        }
+        timer.schedule(() -> closedRounds.remove(id), tombstoneRetention);
+    }
+
+    /**
+     * Reports how many rounds are open, how many were opened and closed, and the timer load.
+     *
+     * @return a map of statistic names to values
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("active", sessions.size());
+        stats.put("opened", opened.sum());
+        stats.put("closed", closed.sum());
+        stats.put("tombstones", closedRounds.size());
+        stats.put("lateSubmissions", lateSubmissions.sum());
+        stats.put("pendingTimers", timer.pendingTimeouts());
+        stats.put("timeLimitSeconds", timeLimit.toSeconds());
+        stats.put("graceMillis", grace.toMillis());
+        return stats;
+    }
+}
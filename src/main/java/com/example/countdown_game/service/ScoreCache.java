@@ -0,0 +1,150 @@
+package com.example.countdown_game.service;
+
+import com.example.countdown_game.dto.ScorePage;
+import com.example.countdown_game.utils.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded cache of the end-screen pages read by {@link ScoreService#getScoresForPlayer(String, String, int)}.
+ *
+ * <p>Pages are kept in an {@link LruCache} keyed by player, cursor and page size. Every page is
+ * stamped with its player's version, read before the page was loaded from the database, and a
+ * save bumps that version, so pages loaded before the save are never served again even if they
+ * were put in the cache after it. Versions are kept in a fixed array of stripes hashed by player
+ * name rather than one counter per player; a collision only costs an extra database read.</p>
+ */
+@Service
+public class ScoreCache {
+
+    private static final int VERSION_STRIPES = 1024;
+
+    private final LruCache<String, CachedPage> pages;
+
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Constructs a ScoreCache.
+     *
+     * @param maxSize the maximum number of pages kept; {@code 0} disables caching
+     */
+    public ScoreCache(@Value("${game.scores.cache.max-size:1000}") int maxSize) {
+        this.pages = new LruCache<>(maxSize);
+    }
+
+    /**
+     * Reads a player's current version. Pass it to {@link #put} with the page read after this call.
+     *
+     * @param playerName the name of the player
+     * @return the version
+     */
+    public long version(String playerName) {
+        return versions.get(stripe(playerName));
+    }
+
+    /**
+     * Looks up a cached page.
+     *
+     * @param playerName the name of the player
+     * @param cursor     the cursor of the page, or {@code null} for the first page
+     * @param limit      the page size
+     * @return the page, or {@code null} if it is not cached or the player saved a score since
+     */
+    public ScorePage get(String playerName, String cursor, int limit) {
+        String key = key(playerName, cursor, limit);
+        CachedPage cached = pages.get(key);
+        if (cached != null && cached.version == version(playerName)) {
+            hits.increment();
+            return cached.page;
+        }
+        if (cached != null) {
+            pages.remove(key);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches a page read from the database.
+     *
+     * @param playerName the name of the player
+     * @param cursor     the cursor of the page, or {@code null} for the first page
+     * @param limit      the page size
+     * @param version    the player's version read before the page was loaded
+     * @param page       the page
+     */
+    public void put(String playerName, String cursor, int limit, long version, ScorePage page) {
+        if (version == version(playerName)) {
+            pages.put(key(playerName, cursor, limit), new CachedPage(version, page));
+        }
+    }
+
+    /**
+     * Invalidates every cached page of a player, after a score was saved for them.
+     *
+     * @param playerName the name of the player
+     */
+    public void invalidate(String playerName) {
+        versions.incrementAndGet(stripe(playerName));
+        invalidations.increment();
+    }
+
+    /**
+     * Invalidates and drops every cached page.
+     */
+    public void clear() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+        pages.clear();
+    }
+
+    /**
+     * Reports the cache size, hits, misses and invalidations.
+     *
+     * @return a map of statistic names to values
+     */
+    public Map<String, Object> getStats() {
+        // Pages found but outdated are misses here, unlike in the underlying cache's own counters
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> stats = pages.getStats();
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+
+    private static int stripe(String playerName) {
+        int hash = playerName.hashCode();
+        return (hash ^ (hash >>> 16)) & (VERSION_STRIPES - 1);
+    }
+
+    private static String key(String playerName, String cursor, int limit) {
+        return playerName + '\u0000' + (cursor == null ? "" : cursor) + '\u0000' + limit;
+    }
+
+    /**
+     * A page and the version of its player it was read at.
+     */
+    private static final class CachedPage {
+        private final long version;
+        private final ScorePage page;
+
+        private CachedPage(long version, ScorePage page) {
+            this.version = version;
+            this.page = page;
+        }
+    }
+}
@@ -1,20 +1,35 @@
 package com.example.countdown_game.service;
 
+import com.example.countdown_game.dto.PlayerStatsView;
+import com.example.countdown_game.dto.ScorePage;
+import com.example.countdown_game.dto.ScoreView;
 import com.example.countdown_game.entity.Score;
 import com.example.countdown_game.repository.ScoreRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * Service class for handling score-related operations.
  * This class interacts with the {@link ScoreRepository} to manage score data
  * and provides methods to save and retrieve scores for players.
+ * New scores are written behind the request by a {@link ScoreWriter}, and end-screen pages are
+ * served from a {@link ScoreCache} until the player saves another score.
  */
 @Service
 @ComponentScan
@@ -22,60 +37,219 @@ public class ScoreService {
 
     private static final Logger logger = LoggerFactory.getLogger(ScoreService.class);
 
+    /**
+     * How long a read waits for queued scores to be written, so players see their last answer.
+     */
+    private static final Duration READ_YOUR_WRITES_TIMEOUT = Duration.ofSeconds(2);
+
     private final ScoreRepository scoreRepository;
 
+    private final ScoreWriter scoreWriter;
+
+    private final LeaderboardService leaderboardService;
+
+    private final PlayerStatsService playerStatsService;
+
+    private final ScoreCache scoreCache;
+
     /**
      * Constructor to initialize the ScoreService with the required {@link ScoreRepository}.
      *
-     * @param scoreRepository the repository used for managing score data.
+     * @param scoreRepository    the repository used for managing score data.
+     * @param scoreWriter        the background writer new scores are queued on.
+     * @param leaderboardService the leaderboards cleared with the scores.
+     * @param playerStatsService the per-player rollups updated with every written score.
+     * @param scoreCache         the cache of end-screen pages.
      */
-    public ScoreService(ScoreRepository scoreRepository) {
+    public ScoreService(ScoreRepository scoreRepository, ScoreWriter scoreWriter,
+                        LeaderboardService leaderboardService, PlayerStatsService playerStatsService,
+                        ScoreCache scoreCache) {
         this.scoreRepository = scoreRepository;
+        this.scoreWriter = scoreWriter;
+        this.leaderboardService = leaderboardService;
+        this.playerStatsService = playerStatsService;
+        this.scoreCache = scoreCache;
     }
 
     /**
-     * Retrieves all scores for a specific player.
+     * Retrieves one page of scores for a specific player, oldest first.
+     * Pages are served from the cache until the player saves another score; otherwise the
+     * method waits briefly for the player's scores that are still queued to be written first.
+     *
+     * <p>Pages are read with keyset pagination on the {@code (player_name, created_at, id)}
+     * index and returned as read-only views, so every page costs the same however long the
+     * player's history is.</p>
      *
      * @param playerName the name of the player whose scores are to be retrieved.
-     * @return a list of {@link Score} objects associated with the given player.
+     * @param cursor     the cursor returned with the previous page, or {@code null} for the first page.
+     * @param limit      the largest number of scores to return.
+     * @return the scores and the cursor of the next page; an empty page if the scores could not be read.
+     * @throws IllegalArgumentException if the cursor is malformed.
      */
-    public List<Score> getScoresForPlayer(String playerName) {
+    public ScorePage getScoresForPlayer(String playerName, String cursor, int limit) {
+        ScoreView after = cursor == null || cursor.isEmpty() ? null : decodeCursor(cursor);
+        ScorePage cached = scoreCache.get(playerName, cursor, limit);
+        if (cached != null) {
+            return cached;
+        }
         try {
             logger.info("Retrieving scores for player: {}", playerName);
-            return scoreRepository.findByPlayerName(playerName);
+            long version = scoreCache.version(playerName);
+            boolean written = scoreWriter.awaitWritten(playerName, READ_YOUR_WRITES_TIMEOUT);
+            if (!written) {
+                logger.warn("Reading scores for player {} before all queued scores were written", playerName);
+            }
+            // One extra row tells whether another page follows
+            Pageable page = PageRequest.of(0, limit + 1);
+            List<ScoreView> scores = after == null
+                    ? scoreRepository.findPageByPlayerName(playerName, page)
+                    : scoreRepository.findPageByPlayerNameAfter(playerName, after.getCreatedAt(), after.getId(), page);
+            ScorePage result = scores.size() <= limit
+                    ? new ScorePage(scores, null)
+                    : new ScorePage(scores.subList(0, limit), encodeCursor(scores.get(limit - 1)));
+            // A page read while scores were still queued may miss some, so it is not kept
+            if (written) {
+                scoreCache.put(playerName, cursor, limit, version, result);
+            }
+            return result;
         } catch (Exception e) {
             logger.error("Failed to retrieve score for player: {}", playerName, e);
-            return Collections.emptyList();
+            return new ScorePage(Collections.emptyList(), null);
         }
     }
 
     /**
      * Saves a new score for a player.
+     * The score is queued and written in the background; it is only written on the calling
+     * thread when the queue is full. Leaderboards and statistics are updated once it is written.
      *
      * @param playerName     the name of the player.
      * @param currentLetters the letters selected during the game.
      * @param word           the word submitted by the player.
      * @param scoreValue     the score associated with the submitted word.
+     * @return {@code true} if the score was queued or saved, {@code false} otherwise.
      */
     public boolean saveScore(String playerName, String currentLetters, String word,
                              int scoreValue, String longestPossibleWord) {
 
         try {
-            logger.info("Saving score for player: {}", playerName);
+            logger.debug("Saving score for player: {}", playerName);
             Score score = new Score( playerName, scoreValue, currentLetters, word, longestPossibleWord);
-            scoreRepository.save(score);
-            return true;
+            boolean saved = true;
+            if (!scoreWriter.submit(score)) {
+                logger.warn("Score queue is full, saving score for player {} directly", playerName);
+                saved = scoreWriter.write(List.of(score)) == 1;
+            }
+            // Only after the score is queued, so a read that sees the new version also waits for it
+            scoreCache.invalidate(playerName);
+            return saved;
         } catch (Exception e) {
             logger.error("Failed to save score for player: {}", playerName, e);
             return false;
         }
     }
 
+    /**
+     * Saves many scores, queueing them for the background writer.
+     * Scores that do not fit in the queue are saved directly in one batched write, and scores
+     * that could never be saved are skipped without affecting the others.
+     *
+     * @param scores the scores to save.
+     * @return {@code true} if every score was queued or saved, {@code false} otherwise.
+     */
+    public boolean saveScores(List<Score> scores) {
+        try {
+            logger.info("Saving {} scores", scores.size());
+            boolean allSaved = true;
+            List<Score> refused = new ArrayList<>();
+            for (Score score : scores) {
+                try {
+                    if (!scoreWriter.submit(score)) {
+                        refused.add(score);
+                    }
+                    scoreCache.invalidate(score.getPlayerName());
+                } catch (IllegalArgumentException e) {
+                    logger.error("Skipping an invalid score of player {}: {}", score.getPlayerName(), e.getMessage());
+                    allSaved = false;
+                }
+            }
+            if (!refused.isEmpty()) {
+                logger.warn("Score queue is full, saving {} scores directly", refused.size());
+                allSaved &= scoreWriter.write(refused) == refused.size();
+            }
+            return allSaved;
+        } catch (Exception e) {
+            logger.error("Failed to save a batch of {} scores", scores.size(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Retrieves a player's statistics from their rollup.
+     * Waits briefly for the player's scores that are still queued to be written first.
+     *
+     * @param playerName the name of the player.
+     * @return the statistics, or empty if the player has no saved scores.
+     */
+    public Optional<PlayerStatsView> getPlayerStats(String playerName) {
+        if (!scoreWriter.awaitWritten(playerName, READ_YOUR_WRITES_TIMEOUT)) {
+            logger.warn("Reading statistics for player {} before all queued scores were written", playerName);
+        }
+        return playerStatsService.getStats(playerName);
+    }
+
+    /**
+     * Reports the state of the background score writer.
+     *
+     * @return the writer's queue depth and write counters.
+     */
+    public Map<String, Object> getWriterStats() {
+        return scoreWriter.getStats();
+    }
+
+    /**
+     * Reports the size and hit rate of the end-screen page cache.
+     *
+     * @return the cache's size, hit, miss and invalidation counters.
+     */
+    public Map<String, Object> getCacheStats() {
+        return scoreCache.getStats();
+    }
+
+    /**
+     * Builds an opaque cursor pointing just after the given score.
+     */
+    private static String encodeCursor(ScoreView last) {
+        String position = last.getCreatedAt().getEpochSecond() + "." + last.getCreatedAt().getNano() + "." + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Reads the position stored in a cursor, as a view holding only its creation time and id.
+     */
+    private static ScoreView decodeCursor(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split("\\.");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            Instant createdAt = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new ScoreView(Long.parseLong(parts[2]), null, 0, null, null, null, createdAt);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
     /**
      * Reset all the game data
      */
     public void resetAllGameData() {
-        // Assuming you have a method to delete game data by playerName
-        scoreRepository.deleteAllScores();
+        // Scores still queued belong to the data being reset, and no batch may land in between
+        scoreWriter.reset(() -> {
+            scoreRepository.deleteAllScores();
+            leaderboardService.clear();
+            playerStatsService.clear();
+            scoreCache.clear();
+        });
     }
 }
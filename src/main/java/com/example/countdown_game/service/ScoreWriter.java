@@ -0,0 +1,501 @@
+package com.example.countdown_game.service;
+
+import com.example.countdown_game.entity.Score;
+import com.example.countdown_game.repository.ScoreRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Writes scores to the database behind the request threads.
+ *
+ * <p>Submitted scores go into a bounded queue and a single background thread saves them in
+ * batches: it waits for the first score, then lingers for up to the flush interval or until the
+ * flush size is reached, and saves the whole batch with one {@code saveAll}. With sequence-based
+ * ids and {@code hibernate.jdbc.batch_size} set, each batch becomes a handful of batched JDBC
+ * inserts in one transaction instead of one round trip per score. The players' rollups are
+ * updated by {@link PlayerStatsService} in the same transaction, so they never disagree with the
+ * score table. If a batch fails, its scores are saved again one by one, so one bad row only loses
+ * itself. Each written score is then added to the leaderboards by {@link LeaderboardService}.</p>
+ *
+ * <p>Queued scores are also counted per player, in stripes hashed by player name, so a reader
+ * only waits for the writer when its own player has scores in flight, not whenever anyone does.</p>
+ *
+ * <p>When the queue is full, {@link #submit(Score)} waits briefly and then refuses the score, so
+ * the caller can write it with {@link #write(List)} instead of growing the queue. On shutdown the
+ * writer stops accepting scores and drains the queue before the database goes away.</p>
+ */
+@Service
+public class ScoreWriter {
+    private static final Logger logger = LoggerFactory.getLogger(ScoreWriter.class);
+
+    /**
+     * The length of the score table's text columns.
+     */
+    private static final int MAX_COLUMN_LENGTH = 255;
+
+    private static final int PENDING_STRIPES = 1024;
+
+    private final ScoreRepository scoreRepository;
+
+    private final PlayerStatsService playerStatsService;
+
+    private final LeaderboardService leaderboardService;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<Pending> queue;
+
+    private final int queueCapacity;
+
+    private final int flushSize;
+
+    private final Duration flushInterval;
+
+    /**
+     * How long {@link #submit(Score)} waits for room in a full queue.
+     */
+    private final Duration offerTimeout;
+
+    /**
+     * Held while scores are written and while the data is reset, so a reset never interleaves
+     * with a batch.
+     */
+    private final Object writeLock = new Object();
+
+    /**
+     * Incremented by every reset. Queued scores remember the generation they were submitted in,
+     * and those from before a reset are dropped instead of written.
+     */
+    private volatile long generation;
+
+    /**
+     * Scores accepted so far. Together with {@link #completed} it lets readers wait until
+     * everything submitted before them has been written.
+     */
+    private final AtomicLong accepted = new AtomicLong();
+
+    /**
+     * Scores taken out of the queue and written or given up on, guarded by {@code this}.
+     */
+    private long completed;
+
+    /**
+     * Scores queued and not yet written or given up on, per stripe of player names. A collision
+     * only makes a reader wait for another player's scores as well.
+     */
+    private final AtomicIntegerArray pendingByPlayer = new AtomicIntegerArray(PENDING_STRIPES);
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder batches = new LongAdder();
+
+    private final LongAdder retriedBatches = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder refused = new LongAdder();
+
+    private final LongAdder discarded = new LongAdder();
+
+    private volatile boolean accepting = true;
+
+    /**
+     * Submissions hold the read lock from checking {@link #accepting} until their score is
+     * queued, and {@link #stop()} takes the write lock to stop accepting, so no score can be
+     * queued after the final drain.
+     */
+    private final ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+
+    private Thread writer;
+
+    /**
+     * Constructs a ScoreWriter.
+     *
+     * @param scoreRepository    the repository the scores are saved with
+     * @param playerStatsService the rollups updated with every written batch
+     * @param leaderboardService the leaderboards updated with every written score
+     * @param transactionManager the transaction manager scores and rollups are written in
+     * @param queueCapacity      the number of scores that may wait to be written
+     * @param flushSize          the largest number of scores saved in one batch
+     * @param flushIntervalMs    how long a batch may wait to fill up before it is saved anyway
+     * @param offerTimeoutMs     how long a submission waits for room in a full queue
+     */
+    public ScoreWriter(ScoreRepository scoreRepository, PlayerStatsService playerStatsService,
+                       LeaderboardService leaderboardService, PlatformTransactionManager transactionManager,
+                       @Value("${game.scores.queue-capacity:10000}") int queueCapacity,
+                       @Value("${game.scores.flush-size:100}") int flushSize,
+                       @Value("${game.scores.flush-interval-ms:200}") long flushIntervalMs,
+                       @Value("${game.scores.offer-timeout-ms:50}") long offerTimeoutMs) {
+        if (queueCapacity < 1 || flushSize < 1) {
+            throw new IllegalArgumentException("The score queue capacity and flush size must be positive.");
+        }
+        this.scoreRepository = scoreRepository;
+        this.playerStatsService = playerStatsService;
+        this.leaderboardService = leaderboardService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.queueCapacity = queueCapacity;
+        this.flushSize = flushSize;
+        this.flushInterval = Duration.ofMillis(Math.max(0, flushIntervalMs));
+        this.offerTimeout = Duration.ofMillis(Math.max(0, offerTimeoutMs));
+    }
+
+    /**
+     * Starts the background writer thread.
+     */
+    @PostConstruct
+    public void start() {
+        writer = new Thread(this::run, "score-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops accepting scores and waits for the queue to be written before the application shuts
+     * down.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        if (writer != null) {
+            writer.join();
+            // Scores queued after the writer's last poll but before accepting was switched off
+            List<Pending> rest = new ArrayList<>();
+            queue.drainTo(rest);
+            if (!rest.isEmpty()) {
+                flush(rest);
+            }
+            logger.info("Score writer stopped after writing {} scores", written.sum());
+        }
+    }
+
+    /**
+     * Queues a score to be written in the background.
+     * A missing longest possible word, left when no word could be formed or the solve ran out of
+     * time, is stored as an empty string.
+     *
+     * @param score the score to save
+     * @return {@code true} if the score was queued, {@code false} if the queue stayed full or the
+     *         writer is shutting down, in which case the caller must write the score itself
+     * @throws IllegalArgumentException if the score could never be saved
+     */
+    public boolean submit(Score score) {
+        normalize(score);
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting) {
+                return false;
+            }
+            Pending pending = new Pending(score, generation);
+            // Counted before it is queued, so the writer can never finish it before it is counted
+            pendingByPlayer.incrementAndGet(pending.stripe);
+            try {
+                if (queue.offer(pending, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    accepted.incrementAndGet();
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            complete(List.of(pending), false);
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+        refused.increment();
+        return false;
+    }
+
+    /**
+     * Writes scores on the calling thread, for scores {@link #submit(Score)} refused.
+     *
+     * @param scores the scores to save, already checked by {@link #submit(Score)}
+     * @return the number of scores written; the others failed and were logged
+     */
+    public int write(List<Score> scores) {
+        synchronized (writeLock) {
+            List<Score> saved = save(scores);
+            for (Score score : saved) {
+                leaderboardService.record(score.getPlayerName(), score.getAnswered(), score.getScoreValue());
+            }
+            return saved.size();
+        }
+    }
+
+    /**
+     * Waits until the scores of one player that are queued have been written. Returns at once if
+     * the player has none, whatever other players are writing.
+     *
+     * @param playerName the name of the player
+     * @param timeout    the longest time to wait
+     * @return {@code true} if they were written, {@code false} if the timeout passed first
+     */
+    public boolean awaitWritten(String playerName, Duration timeout) {
+        int stripe = stripe(playerName);
+        if (pendingByPlayer.get(stripe) == 0) {
+            return true;
+        }
+        long waitUntil = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            while (pendingByPlayer.get(stripe) > 0) {
+                long remaining = waitUntil - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Waits until every score queued before this call has been written.
+     *
+     * @param timeout the longest time to wait
+     * @return {@code true} if they were written, {@code false} if the timeout passed first
+     */
+    public boolean awaitWritten(Duration timeout) {
+        long target = accepted.get();
+        long waitUntil = System.nanoTime() + timeout.toNanos();
+        synchronized (this) {
+            while (completed < target) {
+                long remaining = waitUntil - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drops every score that is still waiting to be written.
+     *
+     * @return the number of scores dropped
+     */
+    public int discardPending() {
+        return reset(() -> { });
+    }
+
+    /**
+     * Drops every score still waiting to be written and clears the stored data, while no batch
+     * is being written. Scores submitted before this call are never written afterwards, even if
+     * the writer had already taken them out of the queue.
+     *
+     * @param clearStore deletes the saved scores and everything derived from them
+     * @return the number of queued scores dropped
+     */
+    public int reset(Runnable clearStore) {
+        synchronized (writeLock) {
+            generation++;
+            List<Pending> dropped = new ArrayList<>();
+            queue.drainTo(dropped);
+            discarded.add(dropped.size());
+            complete(dropped, true);
+            clearStore.run();
+            return dropped.size();
+        }
+    }
+
+    /**
+     * Reports the queue depth and how many scores and batches were written.
+     *
+     * @return a map of statistic names to values
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queued", queue.size());
+        stats.put("queueCapacity", queueCapacity);
+        stats.put("flushSize", flushSize);
+        stats.put("flushIntervalMs", flushInterval.toMillis());
+        stats.put("written", written.sum());
+        stats.put("batches", batches.sum());
+        stats.put("retriedBatches", retriedBatches.sum());
+        stats.put("failed", failed.sum());
+        stats.put("refused", refused.sum());
+        stats.put("discarded", discarded.sum());
+        return stats;
+    }
+
+    private void run() {
+        List<Pending> batch = new ArrayList<>(flushSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long lingerUntil = System.nanoTime() + flushInterval.toNanos();
+                while (batch.size() < flushSize && accepting) {
+                    queue.drainTo(batch, flushSize - batch.size());
+                    long remaining = lingerUntil - System.nanoTime();
+                    if (batch.size() >= flushSize || remaining <= 0) {
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                // Shutting down: no lingering, just fill the batch with whatever is left
+                queue.drainTo(batch, flushSize - batch.size());
+            } catch (InterruptedException e) {
+                // Only stop() ends the loop, so the queue is always drained
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        try {
+            synchronized (writeLock) {
+                List<Score> current = new ArrayList<>(batch.size());
+                for (Pending pending : batch) {
+                    if (pending.generation == generation) {
+                        current.add(pending.score);
+                    }
+                }
+                discarded.add(batch.size() - current.size());
+                if (!current.isEmpty()) {
+                    write(current);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Failed to write a batch of {} scores", batch.size(), e);
+        } finally {
+            complete(batch, true);
+        }
+    }
+
+    /**
+     * Saves scores and their rollups in one transaction, or one score at a time if that fails.
+     *
+     * @return the scores that were saved
+     */
+    private List<Score> save(List<Score> scores) {
+        try {
+            saveWithRollups(scores);
+            written.add(scores.size());
+            batches.increment();
+            return scores;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to write a batch of {} scores, retrying them one by one", scores.size(), e);
+            retriedBatches.increment();
+        }
+        List<Score> saved = new ArrayList<>(scores.size());
+        for (Score score : scores) {
+            // The rolled back batch may have handed out an id that was never inserted
+            score.setId(null);
+            try {
+                saveWithRollups(List.of(score));
+                saved.add(score);
+            } catch (RuntimeException e) {
+                failed.increment();
+                logger.error("Failed to write the score of player {}", score.getPlayerName(), e);
+            }
+        }
+        written.add(saved.size());
+        return saved;
+    }
+
+    private void saveWithRollups(List<Score> scores) {
+        transactionTemplate.executeWithoutResult(status -> {
+            scoreRepository.saveAll(scores);
+            playerStatsService.apply(scores);
+        });
+    }
+
+    /**
+     * Fills in defaults and rejects scores the score table cannot hold.
+     */
+    private static void normalize(Score score) {
+        if (score.getPlayerName() == null || score.getAnswered() == null || score.getSelectedAlphabet() == null) {
+            throw new IllegalArgumentException("A score needs a player name, an answer and letters.");
+        }
+        if (score.getLongestPossibleWord() == null) {
+            score.setLongestPossibleWord("");
+        }
+        if (score.getPlayerName().length() > MAX_COLUMN_LENGTH || score.getAnswered().length() > MAX_COLUMN_LENGTH
+                || score.getSelectedAlphabet().length() > MAX_COLUMN_LENGTH
+                || score.getLongestPossibleWord().length() > MAX_COLUMN_LENGTH) {
+            throw new IllegalArgumentException("Score fields may be at most " + MAX_COLUMN_LENGTH + " characters long.");
+        }
+    }
+
+    /**
+     * Marks scores as no longer pending and wakes the readers waiting for them.
+     *
+     * @param taken whether the scores were taken out of the queue, rather than refused by it
+     */
+    private synchronized void complete(List<Pending> done, boolean taken) {
+        for (Pending pending : done) {
+            pendingByPlayer.decrementAndGet(pending.stripe);
+        }
+        if (taken) {
+            completed += done.size();
+        }
+        notifyAll();
+    }
+
+    private static int stripe(String playerName) {
+        int hash = playerName.hashCode();
+        return (hash ^ (hash >>> 16)) & (PENDING_STRIPES - 1);
+    }
+
+    /**
+     * A queued score and the reset generation it was submitted in.
+     */
+    private static final class Pending {
+        private final Score score;
+        private final long generation;
+        private final int stripe;
+
+        private Pending(Score score, long generation) {
+            this.score = score;
+            this.generation = generation;
+            this.stripe = stripe(score.getPlayerName());
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.countdown_game.utils;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * {@link WordSolver} backed by a bit-sliced inverted index of letter counts.
+ * <p>
+ * For every letter and every count {@code k} the index holds a compressed bitmap of the words
+ * that need at least {@code k} copies of that letter. The words a round can make are then
+ * "every word" minus the union of the bitmaps for one more copy of each letter than the round
+ * provides, which is pure set algebra with no search involved.
+ * </p>
+ * <p>
+ * Word ids are assigned longest first (alphabetically within a length), so the lowest id in a
+ * result is always the longest word and iterating a result yields words in descending length.
+ * </p>
+ */
+public class BitmapIndexWordSolver implements WordSolver {
+    private static final Logger logger = LoggerFactory.getLogger(BitmapIndexWordSolver.class);
+
+    private final String[] words;
+    private final RoaringBitmap allWords;
+
+    /**
+     * {@code atLeast[letter][k - 1]} holds the ids of words with at least {@code k} copies of
+     * {@code letter}.
+     */
+    private final RoaringBitmap[][] atLeast;
+
+    private BitmapIndexWordSolver(String[] words, RoaringBitmap[][] atLeast) {
+        this.words = words;
+        this.atLeast = atLeast;
+        this.allWords = RoaringBitmap.bitmapOfRange(0, words.length);
+    }
+
+    /**
+     * Builds the index from the given dictionary words.
+     * <p>
+     * Words containing anything other than the letters {@code a-z} are skipped.
+     * </p>
+     *
+     * @param dictionary the dictionary words, in lower case.
+     * @return a solver backed by the new index.
+     */
+    public static BitmapIndexWordSolver fromWords(Collection<String> dictionary) {
+        List<String> sorted = new ArrayList<>(dictionary.size());
+        for (String word : dictionary) {
+            if (!word.isEmpty() && word.chars().allMatch(c -> c >= 'a' && c <= 'z')) {
+                sorted.add(word);
+            }
+        }
+        sorted.sort(Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder()));
+
+        List<List<RoaringBitmap>> slices = new ArrayList<>(26);
+        for (int letter = 0; letter < 26; letter++) {
+            slices.add(new ArrayList<>());
+        }
+        int[] counts = new int[26];
+        for (int id = 0; id < sorted.size(); id++) {
+            countLetters(sorted.get(id), counts);
+            for (int letter = 0; letter < 26; letter++) {
+                List<RoaringBitmap> letterSlices = slices.get(letter);
+                for (int k = 0; k < counts[letter]; k++) {
+                    if (k == letterSlices.size()) {
+                        letterSlices.add(new RoaringBitmap());
+                    }
+                    letterSlices.get(k).add(id);
+                }
+            }
+        }
+
+        RoaringBitmap[][] atLeast = new RoaringBitmap[26][];
+        long bytes = 0;
+        for (int letter = 0; letter < 26; letter++) {
+            atLeast[letter] = slices.get(letter).toArray(new RoaringBitmap[0]);
+            for (RoaringBitmap bitmap : atLeast[letter]) {
+                bitmap.runOptimize();
+                bytes += bitmap.getLongSizeInBytes();
+            }
+        }
+        logger.info("Built letter-count bitmap index over {} words ({} KB of bitmaps)", sorted.size(), bytes / 1024);
+        return new BitmapIndexWordSolver(sorted.toArray(new String[0]), atLeast);
+    }
+
+    /**
+     * Finds the longest valid word that can be formed using the given letters.
+     * <p>
+     * When several words share the longest length, the alphabetically first one is returned.
+     * Characters other than letters are ignored.
+     * </p>
+     *
+     * @param letters a string containing the available letters.
+     * @return the longest valid word, or {@code null} if no valid word is found.
+     */
+    @Override
+    public String findLongestWord(String letters) {
+        RoaringBitmap constructible = constructible(letters);
+        return constructible.isEmpty() ? null : words[constructible.first()];
+    }
+
+    /**
+     * Finds every dictionary word that can be formed using the given letters.
+     *
+     * @param letters a string containing the available letters.
+     * @return the words, longest first and alphabetically within a length.
+     */
+    public List<String> findAllWords(String letters) {
+        RoaringBitmap constructible = constructible(letters);
+        List<String> result = new ArrayList<>(constructible.getCardinality());
+        IntIterator ids = constructible.getIntIterator();
+        while (ids.hasNext()) {
+            result.add(words[ids.next()]);
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Within a length, words come out in alphabetical order.
+     * </p>
+     */
+    @Override
+    public void forEachWord(String letters, Predicate<String> visitor) {
+        IntIterator ids = constructible(letters).getIntIterator();
+        while (ids.hasNext()) {
+            if (!visitor.test(words[ids.next()])) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Counts the dictionary words that can be formed using the given letters.
+     *
+     * @param letters a string containing the available letters.
+     * @return the number of words that can be formed.
+     */
+    public int countWords(String letters) {
+        return constructible(letters).getCardinality();
+    }
+
+    /**
+     * Computes the ids of all words that do not need more of any letter than the round provides.
+     *
+     * @param letters a string containing the available letters.
+     * @return a new bitmap of constructible word ids.
+     */
+    private RoaringBitmap constructible(String letters) {
+        int[] available = new int[26];
+        countLetters(letters, available);
+
+        List<RoaringBitmap> tooMany = new ArrayList<>(26);
+        for (int letter = 0; letter < 26; letter++) {
+            if (available[letter] < atLeast[letter].length) {
+                tooMany.add(atLeast[letter][available[letter]]);
+            }
+        }
+        if (tooMany.isEmpty()) {
+            return allWords.clone();
+        }
+        return RoaringBitmap.andNot(allWords, FastAggregation.or(tooMany.iterator()));
+    }
+
+    private static void countLetters(String letters, int[] counts) {
+        Arrays.fill(counts, 0);
+        for (int i = 0; i < letters.length(); i++) {
+            int index = Character.toLowerCase(letters.charAt(i)) - 'a';
+            if (index >= 0 && index < 26) {
+                counts[index]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.countdown_game.utils;
+
+import java.time.Duration;
+
+/**
+ * A point in time after which a search should give up and report what it has found so far.
+ * <p>
+ * Solvers poll {@link #isExpired()} cooperatively while they search, so a single deadline object
+ * can be shared by every step of one request.
+ * </p>
+ */
+public final class Deadline {
+
+    /**
+     * A deadline that never expires.
+     */
+    public static final Deadline NONE = new Deadline(0, false);
+
+    private final long expiresAt;
+    private final boolean bounded;
+
+    private Deadline(long expiresAt, boolean bounded) {
+        this.expiresAt = expiresAt;
+        this.bounded = bounded;
+    }
+
+    /**
+     * Creates a deadline that expires once the given budget has elapsed from now.
+     *
+     * @param budget the time allowed; zero or negative means no limit.
+     * @return the deadline.
+     */
+    public static Deadline after(Duration budget) {
+        if (budget.isZero() || budget.isNegative()) {
+            return NONE;
+        }
+        return new Deadline(System.nanoTime() + budget.toNanos(), true);
+    }
+
+    /**
+     * Checks whether the time budget is used up.
+     *
+     * @return {@code true} once the deadline has passed.
+     */
+    public boolean isExpired() {
+        return bounded && System.nanoTime() - expiresAt >= 0;
+    }
+}
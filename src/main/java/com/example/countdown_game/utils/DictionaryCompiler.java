@@ -0,0 +1,153 @@
+package com.example.countdown_game.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Build-time tool that compiles the plain text word list into the binary format read by
+ * {@link MappedWordDictionary}.
+ * <p>
+ * The Maven build runs it during {@code process-classes} to produce {@code words.dict} on the
+ * classpath. The layout, all integers big-endian, is:
+ * </p>
+ * <pre>
+ * int   magic, version, signatureCount (S), wordCount (W), signatureBytes, wordBytes
+ * int[] signatureOffsets[S + 1]  byte offset of each sorted signature
+ * int[] groupStarts[S + 1]       first word id of each signature's anagram group
+ * int[] wordOffsets[W + 1]       byte offset of each word, grouped by signature
+ * int[] alphabeticalIds[W]       word ids in alphabetical order of the words
+ * byte[] signature text, word text (ASCII)
+ * </pre>
+ */
+public final class DictionaryCompiler {
+
+    private DictionaryCompiler() {
+    }
+
+    /**
+     * Compiles a word list from the command line.
+     *
+     * @param args the text word list and the binary file to write.
+     * @throws IOException if either file cannot be accessed.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: DictionaryCompiler <words.txt> <words.dict>");
+            System.exit(2);
+        }
+        int words = compile(Path.of(args[0]), Path.of(args[1]));
+        System.out.println("Compiled " + words + " words into " + args[1]);
+    }
+
+    /**
+     * Compiles a word list with one word per line.
+     * <p>
+     * Words are trimmed and lower-cased; blank lines and words with non-ASCII characters are
+     * skipped.
+     * </p>
+     *
+     * @param source the text word list.
+     * @param target the binary file to write, replaced atomically.
+     * @return the number of distinct words written.
+     * @throws IOException if either file cannot be accessed.
+     */
+    public static int compile(Path source, Path target) throws IOException {
+        TreeSet<String> words = new TreeSet<>();
+        try (BufferedReader br = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String word;
+            while ((word = br.readLine()) != null) {
+                String normalized = word.trim().toLowerCase();
+                if (!normalized.isEmpty() && normalized.chars().allMatch(c -> c < 128)) {
+                    words.add(normalized);
+                }
+            }
+        }
+        write(words, target);
+        return words.size();
+    }
+
+    /**
+     * Writes already normalized words in the binary format.
+     *
+     * @param words  the distinct, lower-cased ASCII words.
+     * @param target the binary file to write, replaced atomically.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Collection<String> words, Path target) throws IOException {
+        List<String> alphabetical = new ArrayList<>(new TreeSet<>(words));
+
+        // Anagram groups in signature order, each group already sorted alphabetically
+        TreeMap<String, List<String>> groups = new TreeMap<>();
+        for (String word : alphabetical) {
+            groups.computeIfAbsent(LongestWordFinder.signatureOf(word), key -> new ArrayList<>()).add(word);
+        }
+
+        List<String> byGroup = new ArrayList<>(alphabetical.size());
+        int[] groupStarts = new int[groups.size() + 1];
+        int[] signatureOffsets = new int[groups.size() + 1];
+        int group = 0;
+        for (Map.Entry<String, List<String>> entry : groups.entrySet()) {
+            groupStarts[group] = byGroup.size();
+            signatureOffsets[group + 1] = signatureOffsets[group] + entry.getKey().length();
+            byGroup.addAll(entry.getValue());
+            group++;
+        }
+        groupStarts[group] = byGroup.size();
+
+        Map<String, Integer> ids = new HashMap<>();
+        int[] wordOffsets = new int[byGroup.size() + 1];
+        for (int id = 0; id < byGroup.size(); id++) {
+            ids.put(byGroup.get(id), id);
+            wordOffsets[id + 1] = wordOffsets[id] + byGroup.get(id).length();
+        }
+
+        Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), "words", ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeInt(MappedWordDictionary.MAGIC);
+            out.writeInt(MappedWordDictionary.VERSION);
+            out.writeInt(groups.size());
+            out.writeInt(byGroup.size());
+            out.writeInt(signatureOffsets[groups.size()]);
+            out.writeInt(wordOffsets[byGroup.size()]);
+            writeInts(out, signatureOffsets);
+            writeInts(out, groupStarts);
+            writeInts(out, wordOffsets);
+            for (String word : alphabetical) {
+                out.writeInt(ids.get(word));
+            }
+            for (String signature : groups.keySet()) {
+                out.writeBytes(signature);
+            }
+            for (String word : byGroup) {
+                out.writeBytes(word);
+            }
+        }
+        try {
+            // Readable by every JVM on the host so they can share the mapped pages
+            Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-r--r--"));
+        } catch (UnsupportedOperationException e) {
+            // Not a POSIX file system, keep the default permissions
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        for (int value : values) {
+            out.writeInt(value);
+        }
+    }
+}
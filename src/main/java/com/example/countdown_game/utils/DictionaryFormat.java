@@ -0,0 +1,23 @@
+package com.example.countdown_game.utils;
+
+/**
+ * The in-memory dictionary formats that can be selected with the {@code game.dictionary.format}
+ * property.
+ */
+public enum DictionaryFormat {
+
+    /**
+     * {@link MappedWordDictionary} over the compiled {@code words.dict}, held off-heap.
+     */
+    MAPPED,
+
+    /**
+     * {@link FrontCodedWordDictionary}, a compact on-heap copy of the compiled dictionary.
+     */
+    FRONT_CODED,
+
+    /**
+     * {@link HashWordDictionary} parsed from the plain text word list.
+     */
+    TEXT
+}
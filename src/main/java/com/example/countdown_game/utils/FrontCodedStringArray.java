@@ -0,0 +1,233 @@
+package com.example.countdown_game.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable, sorted array of short Latin-1 strings stored with front coding.
+ * <p>
+ * Strings are grouped into blocks of {@value #BLOCK_SIZE}. The first string of a block is stored
+ * in full as {@code length, bytes}; every following one only as {@code shared prefix length,
+ * suffix length, suffix bytes} relative to its predecessor. A lookup binary-searches the block
+ * headers and then walks a single block, comparing the key in place without decoding, so
+ * {@link #indexOf(CharSequence)} does not allocate.
+ * </p>
+ */
+public final class FrontCodedStringArray {
+
+    private static final int BLOCK_SIZE = 16;
+
+    private static final int MAX_LENGTH = 255;
+
+    private final byte[] data;
+    private final int[] blockOffsets;
+    private final int size;
+
+    private FrontCodedStringArray(byte[] data, int[] blockOffsets, int size) {
+        this.data = data;
+        this.blockOffsets = blockOffsets;
+        this.size = size;
+    }
+
+    /**
+     * Encodes strings that are already sorted and distinct.
+     *
+     * @param sorted the strings in ascending order, each at most 255 Latin-1 characters.
+     * @return the encoded array.
+     * @throws IllegalArgumentException if a string is unsorted, too long or not Latin-1.
+     */
+    public static FrontCodedStringArray of(List<String> sorted) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int[] blockOffsets = new int[(sorted.size() + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        String previous = null;
+        for (int i = 0; i < sorted.size(); i++) {
+            String value = sorted.get(i);
+            if (value.length() > MAX_LENGTH || !value.chars().allMatch(c -> c <= 0xFF)) {
+                throw new IllegalArgumentException("Cannot front-code '" + value + "'");
+            }
+            if (previous != null && previous.compareTo(value) >= 0) {
+                throw new IllegalArgumentException("Strings are not sorted and distinct at '" + value + "'");
+            }
+            if (i % BLOCK_SIZE == 0) {
+                blockOffsets[i / BLOCK_SIZE] = out.size();
+                out.write(value.length());
+                writeLatin1(out, value, 0);
+            } else {
+                int shared = commonPrefix(previous, value);
+                out.write(shared);
+                out.write(value.length() - shared);
+                writeLatin1(out, value, shared);
+            }
+            previous = value;
+        }
+        return new FrontCodedStringArray(out.toByteArray(), blockOffsets, sorted.size());
+    }
+
+    /**
+     * Finds the position of a string.
+     *
+     * @param key the string to look up.
+     * @return its index, or {@code -1} if the array does not contain it.
+     */
+    public int indexOf(CharSequence key) {
+        int low = 0;
+        int high = blockOffsets.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int offset = blockOffsets[mid];
+            int cmp = compare(key, offset + 1, data[offset] & 0xFF);
+            if (cmp == 0) {
+                return mid * BLOCK_SIZE;
+            }
+            if (cmp > 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (high < 0) {
+            return -1; // Smaller than every string
+        }
+        return scanBlock(high, key);
+    }
+
+    /**
+     * Decodes the string at a position.
+     *
+     * @param index the position, from {@code 0} to {@code size() - 1}.
+     * @return the decoded string.
+     */
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int block = index / BLOCK_SIZE;
+        int position = blockOffsets[block];
+        int length = data[position++] & 0xFF;
+        position = readLatin1(position, buffer, 0, length);
+        for (int i = block * BLOCK_SIZE + 1; i <= index; i++) {
+            int shared = data[position++] & 0xFF;
+            int suffix = data[position++] & 0xFF;
+            position = readLatin1(position, buffer, shared, suffix);
+            length = shared + suffix;
+        }
+        return new String(buffer, 0, length);
+    }
+
+    /**
+     * Decodes every string in order.
+     *
+     * @return a new list of all strings.
+     */
+    public List<String> toList() {
+        List<String> values = new ArrayList<>(size);
+        char[] buffer = new char[MAX_LENGTH];
+        int position = 0;
+        int length = 0;
+        for (int i = 0; i < size; i++) {
+            if (i % BLOCK_SIZE == 0) {
+                length = data[position++] & 0xFF;
+                position = readLatin1(position, buffer, 0, length);
+            } else {
+                int shared = data[position++] & 0xFF;
+                int suffix = data[position++] & 0xFF;
+                position = readLatin1(position, buffer, shared, suffix);
+                length = shared + suffix;
+            }
+            values.add(new String(buffer, 0, length));
+        }
+        return values;
+    }
+
+    /**
+     * Counts the strings in the array.
+     *
+     * @return the number of strings.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Estimates the heap used by the encoded strings and block headers.
+     *
+     * @return the size in bytes.
+     */
+    public long sizeInBytes() {
+        return data.length + (long) blockOffsets.length * Integer.BYTES;
+    }
+
+    /**
+     * Walks a block whose first string is smaller than the key, tracking how many leading
+     * characters the current string shares with the key so each entry only compares its suffix.
+     */
+    private int scanBlock(int block, CharSequence key) {
+        int position = blockOffsets[block];
+        int length = data[position++] & 0xFF;
+        int matched = 0;
+        while (matched < length && matched < key.length() && key.charAt(matched) == (data[position + matched] & 0xFF)) {
+            matched++;
+        }
+        position += length;
+
+        int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+        for (int index = block * BLOCK_SIZE + 1; index < end; index++) {
+            int shared = data[position++] & 0xFF;
+            int suffix = data[position++] & 0xFF;
+            if (shared < matched) {
+                return -1; // Diverges from the key earlier, with a larger character, so it is past the key
+            }
+            if (shared == matched) {
+                int i = 0;
+                while (i < suffix && matched + i < key.length() && key.charAt(matched + i) == (data[position + i] & 0xFF)) {
+                    i++;
+                }
+                if (i == suffix && matched + i == key.length()) {
+                    return index;
+                }
+                if (i < suffix && (matched + i == key.length() || (data[position + i] & 0xFF) > key.charAt(matched + i))) {
+                    return -1; // Sorted past the key
+                }
+                matched += i;
+            }
+            // shared > matched: same mismatch as the previous string, still before the key
+            position += suffix;
+        }
+        return -1;
+    }
+
+    private int compare(CharSequence key, int offset, int length) {
+        int common = Math.min(key.length(), length);
+        for (int i = 0; i < common; i++) {
+            int diff = key.charAt(i) - (data[offset + i] & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return key.length() - length;
+    }
+
+    private int readLatin1(int position, char[] buffer, int at, int length) {
+        for (int i = 0; i < length; i++) {
+            buffer[at + i] = (char) (data[position + i] & 0xFF);
+        }
+        return position + length;
+    }
+
+    private static void writeLatin1(ByteArrayOutputStream out, String value, int from) {
+        for (int i = from; i < value.length(); i++) {
+            out.write(value.charAt(i));
+        }
+    }
+
+    private static int commonPrefix(String a, String b) {
+        int limit = Math.min(Math.min(a.length(), b.length()), MAX_LENGTH);
+        int i = 0;
+        while (i < limit && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.countdown_game.utils;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+/**
+ * {@link WordDictionary} kept on the heap as two {@link FrontCodedStringArray}s: the words in
+ * alphabetical order and the distinct signatures in sorted order, plus the position of each
+ * signature's first word and a small side table for signatures shared by several words.
+ * <p>
+ * Sorted dictionary words share long prefixes, so this takes a few megabytes where a
+ * {@code HashSet<String>} takes tens, and {@link #contains(String)} compares bytes in place
+ * without allocating.
+ * </p>
+ */
+public class FrontCodedWordDictionary implements WordDictionary {
+
+    private final FrontCodedStringArray words;
+    private final FrontCodedStringArray signatures;
+
+    /**
+     * For each signature, the index in {@link #words} of the alphabetically first word with it.
+     */
+    private final int[] signatureFirstWord;
+
+    /**
+     * The signatures, in ascending order, that have more than one word. Most signatures have a
+     * single word, so only these few pay for the extra tables below.
+     */
+    private final int[] anagramSignatures;
+
+    /**
+     * For each of {@link #anagramSignatures}, where its other words start in
+     * {@link #anagramWords}, plus a final end.
+     */
+    private final int[] anagramStarts;
+
+    /**
+     * Indexes into {@link #words} of every word after the first of its signature, in groups.
+     */
+    private final int[] anagramWords;
+
+    private FrontCodedWordDictionary(FrontCodedStringArray words, FrontCodedStringArray signatures, int[] signatureFirstWord,
+                                     int[] anagramSignatures, int[] anagramStarts, int[] anagramWords) {
+        this.words = words;
+        this.signatures = signatures;
+        this.signatureFirstWord = signatureFirstWord;
+        this.anagramSignatures = anagramSignatures;
+        this.anagramStarts = anagramStarts;
+        this.anagramWords = anagramWords;
+    }
+
+    /**
+     * Builds a dictionary from words that are already normalized to lower case.
+     * <p>
+     * Blank words and words with characters outside Latin-1 are skipped.
+     * </p>
+     *
+     * @param dictionary the dictionary words.
+     * @return the new dictionary.
+     */
+    public static FrontCodedWordDictionary fromWords(Collection<String> dictionary) {
+        TreeSet<String> sorted = new TreeSet<>();
+        for (String word : dictionary) {
+            if (!word.isEmpty() && word.length() <= 255 && word.chars().allMatch(c -> c <= 0xFF)) {
+                sorted.add(word);
+            }
+        }
+
+        List<String> alphabetical = new ArrayList<>(sorted);
+        TreeMap<String, List<Integer>> groups = new TreeMap<>();
+        for (int i = 0; i < alphabetical.size(); i++) {
+            groups.computeIfAbsent(LongestWordFinder.signatureOf(alphabetical.get(i)), key -> new ArrayList<>(1)).add(i);
+        }
+        int[] signatureFirstWord = new int[groups.size()];
+        IntStream.Builder anagramSignatures = IntStream.builder();
+        IntStream.Builder anagramStarts = IntStream.builder();
+        IntStream.Builder anagramWords = IntStream.builder();
+        int signature = 0;
+        int others = 0;
+        for (List<Integer> anagrams : groups.values()) {
+            signatureFirstWord[signature] = anagrams.get(0);
+            if (anagrams.size() > 1) {
+                anagramSignatures.add(signature);
+                anagramStarts.add(others);
+                for (int i = 1; i < anagrams.size(); i++) {
+                    anagramWords.add(anagrams.get(i));
+                    others++;
+                }
+            }
+            signature++;
+        }
+        anagramStarts.add(others);
+        return new FrontCodedWordDictionary(FrontCodedStringArray.of(alphabetical),
+                FrontCodedStringArray.of(new ArrayList<>(groups.keySet())), signatureFirstWord,
+                anagramSignatures.build().toArray(), anagramStarts.build().toArray(), anagramWords.build().toArray());
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return word != null && words.indexOf(word) >= 0;
+    }
+
+    @Override
+    public String findWordWithSignature(char[] signature, int length) {
+        int index = signatures.indexOf(CharBuffer.wrap(signature, 0, length));
+        return index < 0 ? null : words.get(signatureFirstWord[index]);
+    }
+
+    @Override
+    public boolean forEachWordWithSignature(char[] signature, int length, Predicate<String> visitor) {
+        int index = signatures.indexOf(CharBuffer.wrap(signature, 0, length));
+        if (index < 0) {
+            return true;
+        }
+        if (!visitor.test(words.get(signatureFirstWord[index]))) {
+            return false;
+        }
+        int group = Arrays.binarySearch(anagramSignatures, index);
+        if (group >= 0) {
+            for (int i = anagramStarts[group]; i < anagramStarts[group + 1]; i++) {
+                if (!visitor.test(words.get(anagramWords[i]))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return words.size();
+    }
+
+    @Override
+    public Collection<String> words() {
+        return words.toList();
+    }
+
+    @Override
+    public long heapBytes() {
+        return words.sizeInBytes() + signatures.sizeInBytes() + (long) (signatureFirstWord.length + anagramSignatures.length + anagramStarts.length + anagramWords.length) * Integer.BYTES;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.countdown_game.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * {@link WordDictionary} held on the heap in a {@link HashSet}, with a {@link HashMap} from each
+ * signature to its words in alphabetical order.
+ * <p>
+ * This is the format used when the word list is parsed from text at startup.
+ * </p>
+ */
+public class HashWordDictionary implements WordDictionary {
+
+    /**
+     * A dictionary without any words, used until a real one is loaded.
+     */
+    public static final HashWordDictionary EMPTY = new HashWordDictionary(Collections.emptySet(), Collections.emptyMap());
+
+    private final Set<String> words;
+    private final Map<String, String[]> signatureIndex;
+
+    private HashWordDictionary(Set<String> words, Map<String, String[]> signatureIndex) {
+        this.words = words;
+        this.signatureIndex = signatureIndex;
+    }
+
+    /**
+     * Parses a word list with one word per line.
+     *
+     * @param file the word list to read.
+     * @return a dictionary holding the trimmed, lower-cased words.
+     * @throws IOException if the file cannot be read.
+     */
+    public static HashWordDictionary fromFile(Path file) throws IOException {
+        Set<String> words = new HashSet<>();
+        try (BufferedReader br = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String word;
+            while ((word = br.readLine()) != null) {
+                words.add(word.trim().toLowerCase());
+            }
+        }
+        return fromWords(words);
+    }
+
+    /**
+     * Builds a dictionary from words that are already normalized to lower case.
+     *
+     * @param words the dictionary words.
+     * @return the new dictionary.
+     */
+    public static HashWordDictionary fromWords(Collection<String> words) {
+        Set<String> wordSet = new HashSet<>(words);
+        Map<String, List<String>> groups = new HashMap<>();
+        for (String word : wordSet) {
+            if (!word.isEmpty()) {
+                groups.computeIfAbsent(LongestWordFinder.signatureOf(word), key -> new ArrayList<>(1)).add(word);
+            }
+        }
+        Map<String, String[]> signatureIndex = new HashMap<>(groups.size() * 4 / 3 + 1);
+        for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+            String[] anagrams = group.getValue().toArray(new String[0]);
+            Arrays.sort(anagrams);
+            signatureIndex.put(group.getKey(), anagrams);
+        }
+        return new HashWordDictionary(wordSet, signatureIndex);
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return words.contains(word);
+    }
+
+    @Override
+    public String findWordWithSignature(char[] signature, int length) {
+        String[] anagrams = signatureIndex.get(new String(signature, 0, length));
+        return anagrams == null ? null : anagrams[0];
+    }
+
+    @Override
+    public boolean forEachWordWithSignature(char[] signature, int length, Predicate<String> visitor) {
+        String[] anagrams = signatureIndex.get(new String(signature, 0, length));
+        if (anagrams != null) {
+            for (String word : anagrams) {
+                if (!visitor.test(word)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return words.size();
+    }
+
+    @Override
+    public Collection<String> words() {
+        return Collections.unmodifiableSet(words);
+    }
+
+    /**
+     * Estimates the heap of both hash tables, assuming compressed oops: a 32 byte hash node and a
+     * 4 byte table slot per entry, and a 24 byte {@link String} with a 16 byte array header per
+     * key. Signature entries point to arrays that share the word strings.
+     */
+    @Override
+    public long heapBytes() {
+        long bytes = 0;
+        for (String word : words) {
+            bytes += 76 + word.length();
+        }
+        for (Map.Entry<String, String[]> entry : signatureIndex.entrySet()) {
+            bytes += 76 + entry.getKey().length() + 16 + 4L * entry.getValue().length;
+        }
+        return bytes;
+    }
+}
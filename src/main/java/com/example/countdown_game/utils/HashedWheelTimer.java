@@ -0,0 +1,269 @@
+package com.example.countdown_game.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A timer for very many short tasks whose exact firing time does not matter to within a tick.
+ * <p>
+ * Tasks are hashed into a fixed ring of buckets by the tick they are due at. A single worker
+ * thread advances one bucket per tick and runs the tasks in it whose remaining number of full
+ * turns of the wheel has reached zero. Scheduling and cancelling are constant time and allocate
+ * one small object, and each tick only touches one bucket, so the cost of the timer does not grow
+ * with the number of pending tasks the way a heap-based scheduler's does.
+ * </p>
+ * <p>
+ * New tasks are handed to the worker through a lock-free queue; buckets are only ever touched by
+ * the worker, so they need no locking. Tasks run on the worker thread and must be short.
+ * </p>
+ */
+public final class HashedWheelTimer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+    /**
+     * The most new tasks moved into the wheel per tick, so a burst of scheduling cannot delay
+     * the tasks that are due.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final Thread worker;
+    private final long startTime;
+    private volatile boolean running = true;
+
+    /**
+     * The number of ticks that have passed; only read and written by the worker.
+     */
+    private long tick;
+
+    /**
+     * Creates a timer and starts its worker thread.
+     *
+     * @param name         the name of the worker thread.
+     * @param tickDuration the time between two ticks, and so the precision of the timer.
+     * @param wheelSize    the number of buckets, rounded up to a power of two.
+     */
+    public HashedWheelTimer(String name, Duration tickDuration, int wheelSize) {
+        if (tickDuration.toNanos() <= 0) {
+            throw new IllegalArgumentException("The tick duration must be positive: " + tickDuration);
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("The wheel size must be between 1 and 2^30: " + wheelSize);
+        }
+        this.tickNanos = tickDuration.toNanos();
+        int size = 1;
+        while (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Schedules a task to run once after a delay.
+     *
+     * @param task  the task, run on the timer thread.
+     * @param delay how long to wait; the task runs within one tick after it.
+     * @return a handle that can cancel the task.
+     * @throws IllegalStateException if the timer was closed.
+     */
+    public Timeout schedule(Runnable task, Duration delay) {
+        if (!running) {
+            throw new IllegalStateException("The timer is closed");
+        }
+        long deadline = System.nanoTime() - startTime + Math.max(0, delay.toNanos());
+        Timeout timeout = new Timeout(task, deadline);
+        pending.incrementAndGet();
+        scheduled.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Counts the tasks that are scheduled and have neither run nor been removed after a cancel.
+     *
+     * @return the number of pending tasks.
+     */
+    public long pendingTimeouts() {
+        return pending.get();
+    }
+
+    /**
+     * Stops the worker thread. Pending tasks are dropped without running.
+     */
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long due = (tick + 1) * tickNanos;
+            long sleep = due - (System.nanoTime() - startTime);
+            if (sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        return;
+                    }
+                }
+                continue;
+            }
+            transferScheduled();
+            wheel[(int) (tick & mask)].expire(due);
+            tick++;
+        }
+    }
+
+    /**
+     * Moves newly scheduled tasks into the bucket of the tick they are due at.
+     */
+    private void transferScheduled() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = scheduled.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                pending.decrementAndGet();
+                continue;
+            }
+            long dueTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (dueTick - tick) / wheel.length;
+            // Tasks already overdue go into the current bucket
+            wheel[(int) (Math.max(dueTick, tick) & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * A handle on a scheduled task.
+     */
+    public static final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout previous;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task if it has not run yet. The worker drops it the next time it visits
+         * its bucket.
+         *
+         * @return {@code true} if this call cancelled the task.
+         */
+        public boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        private boolean markExpired() {
+            return state.compareAndSet(WAITING, EXPIRED);
+        }
+
+        /**
+         * Reports whether the task was cancelled.
+         *
+         * @return {@code true} if {@link #cancel()} succeeded.
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * Reports whether the task has been run.
+         *
+         * @return {@code true} once the task was started.
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+
+    /**
+     * The tasks hashed to one slot of the wheel, as a doubly linked list owned by the worker.
+     */
+    private final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        private void add(Timeout timeout) {
+            timeout.previous = tail;
+            timeout.next = null;
+            if (tail == null) {
+                head = timeout;
+            } else {
+                tail.next = timeout;
+            }
+            tail = timeout;
+        }
+
+        private void remove(Timeout timeout) {
+            if (timeout.previous == null) {
+                head = timeout.next;
+            } else {
+                timeout.previous.next = timeout.next;
+            }
+            if (timeout.next == null) {
+                tail = timeout.previous;
+            } else {
+                timeout.next.previous = timeout.previous;
+            }
+            timeout.next = null;
+            timeout.previous = null;
+            pending.decrementAndGet();
+        }
+
+        /**
+         * Runs the tasks due by the end of the current tick and drops cancelled ones.
+         */
+        private void expire(long due) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= due) {
+                    remove(timeout);
+                    if (timeout.markExpired()) {
+                        try {
+                            timeout.task.run();
+                        } catch (RuntimeException e) {
+                            logger.warn("Timer task failed", e);
+                        }
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+}
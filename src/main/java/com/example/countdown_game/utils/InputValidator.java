@@ -23,14 +23,19 @@ public class InputValidator {
             return true; // Empty string is valid
         }
 
-        // Check for valid characters: letters and spaces only
-        String validPattern = "^[a-zA-Z ]+$";
-        if (!input.matches(validPattern)) {
+        // Check for maximum length
+        if (input.length() > 20) {
             return false;
         }
 
-        // Check for maximum length
-        return input.length() <= 20;
+        // Check for valid characters: letters and spaces only, without compiling a regex per call
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && !(c >= 'A' && c <= 'Z') && c != ' ') {
+                return false;
+            }
+        }
+        return true;
     }
 
 }
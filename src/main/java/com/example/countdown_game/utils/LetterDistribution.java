@@ -0,0 +1,121 @@
+package com.example.countdown_game.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.random.RandomGenerator;
+
+/**
+ * A weighted distribution over letters that draws a letter in constant time.
+ * <p>
+ * Sampling uses Vose's alias method: the weights are spread over one column per letter, each
+ * column holding its own letter with some probability and one "alias" letter otherwise. A draw
+ * picks a column uniformly and flips one biased coin, however many letters there are.
+ * </p>
+ * <p>
+ * Instances are immutable and safe to share. The caller supplies the random generator, so a
+ * seeded generator replays the same letters.
+ * </p>
+ */
+public final class LetterDistribution {
+
+    private final char[] letters;
+    private final double[] probability;
+    private final int[] alias;
+
+    private LetterDistribution(char[] letters, double[] probability, int[] alias) {
+        this.letters = letters;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Parses a distribution written as comma separated {@code letter:weight} pairs, such as
+     * {@code A:15,E:21,I:13}.
+     *
+     * @param spec the letters and their relative weights.
+     * @return the distribution, with letters in upper case.
+     * @throws IllegalArgumentException if the spec is malformed or has no positive weight.
+     */
+    public static LetterDistribution parse(String spec) {
+        String[] entries = spec.split(",");
+        char[] letters = new char[entries.length];
+        double[] weights = new double[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            String[] pair = entries[i].trim().split(":");
+            if (pair.length != 2 || pair[0].trim().length() != 1 || !Character.isLetter(pair[0].trim().charAt(0))) {
+                throw new IllegalArgumentException("Expected letter:weight but found '" + entries[i] + "'");
+            }
+            letters[i] = Character.toUpperCase(pair[0].trim().charAt(0));
+            try {
+                weights[i] = Double.parseDouble(pair[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid weight in '" + entries[i] + "'", e);
+            }
+        }
+        return of(letters, weights);
+    }
+
+    /**
+     * Builds a distribution from letters and their relative weights. Letters with a weight of
+     * zero are never drawn.
+     *
+     * @param letters the letters.
+     * @param weights the relative weight of each letter; negative weights are rejected.
+     * @return the distribution.
+     * @throws IllegalArgumentException if the arrays differ in length or no weight is positive.
+     */
+    public static LetterDistribution of(char[] letters, double[] weights) {
+        if (letters.length != weights.length) {
+            throw new IllegalArgumentException("Every letter needs exactly one weight");
+        }
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0 || Double.isNaN(weight) || Double.isInfinite(weight)) {
+                throw new IllegalArgumentException("Weights must be finite and not negative");
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("At least one letter needs a positive weight");
+        }
+
+        int n = letters.length;
+        double[] scaled = new double[n];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            (scaled[i] < 1.0 ? small : large).push(i);
+        }
+
+        double[] probability = new double[n];
+        int[] alias = new int[n];
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            (scaled[more] < 1.0 ? small : large).push(more);
+        }
+        // Whatever is left is full up to rounding error
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1.0;
+        }
+        return new LetterDistribution(letters.clone(), probability, alias);
+    }
+
+    /**
+     * Draws one letter.
+     *
+     * @param random the source of randomness.
+     * @return a letter, chosen with probability proportional to its weight.
+     */
+    public char sample(RandomGenerator random) {
+        int column = random.nextInt(letters.length);
+        return random.nextDouble() < probability[column] ? letters[column] : letters[alias[column]];
+    }
+}
@@ -1,15 +1,18 @@
 package com.example.countdown_game.utils;
 
-import com.example.countdown_game.controller.GameController;
-import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Component;
 
-import java.io.BufferedReader;
-import java.io.File;
-import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
+import java.util.function.Predicate;
 
 
 /**
@@ -18,39 +21,159 @@ import java.util.*;
  * This class includes methods for loading a dictionary, generating permutations of letters,
  * and finding or validating words based on the dictionary.
  * </p>
+ * <p>
+ * Longest-word searches use an anagram-signature index: every dictionary word is filed under its
+ * letters in sorted order, so a search only has to visit the distinct sub-multisets of the given
+ * letters instead of every permutation of them.
+ * </p>
  */
 public class LongestWordFinder {
     private static final Logger logger = LoggerFactory.getLogger(LongestWordFinder.class);
 
     /**
-     * A set to store the dictionary words for fast lookup.
+     * Classpath location of the dictionary compiled by {@link DictionaryCompiler} during the build.
+     */
+    private static final String COMPILED_DICTIONARY_RESOURCE = "/words.dict";
+
+    /**
+     * Plain text word list, parsed only when no compiled dictionary is available.
      */
-    private static final Set<String> dictionary = new HashSet<>();
+    private static final String TEXT_DICTIONARY_PATH = "src/main/java/com/example/countdown_game/utils/words_alpha.txt";
 
+    /**
+     * The dictionary words used for lookups. Replaced as a whole when a dictionary is loaded.
+     */
+    private static volatile WordDictionary dictionary = HashWordDictionary.EMPTY;
 
 
     /**
-     * Loads the dictionary from a file into memory.
+     * Loads the dictionary into memory.
      * <p>
-     * The dictionary file is expected to be located at the specified relative path.
+     * The compiled {@code words.dict} on the classpath is memory-mapped when present. Otherwise
+     * the plain text word list is parsed from the source tree.
      * </p>
      *
+     * @throws UncheckedIOException if no dictionary could be read.
      */
     public static void loadDictionary() {
-        // Define the relative path to the file
-        String filePath = "src/main/java/com/example/countdown_game/utils/words_alpha.txt";
+        loadDictionary(DictionaryFormat.MAPPED, null);
+    }
+
+    /**
+     * Loads the dictionary into memory in the given format.
+     * <p>
+     * Formats that need the compiled {@code words.dict} fall back to parsing the plain text word
+     * list when it is not on the classpath. The heap used by the dictionary is logged so that
+     * containers can be sized.
+     * </p>
+     *
+     * @param format the in-memory format to use.
+     * @return the loaded dictionary.
+     * @throws UncheckedIOException if no dictionary could be read; the previous one stays in use.
+     */
+    public static WordDictionary loadDictionary(DictionaryFormat format) {
+        return loadDictionary(format, null);
+    }
+
+    /**
+     * Loads the dictionary from an explicit file into memory in the given format.
+     * <p>
+     * A file ending in {@code .dict} is read as a compiled dictionary, anything else as a plain
+     * text word list. The new dictionary is built completely before it replaces the previous one
+     * in a single reference assignment, so lookups running concurrently keep using the old one.
+     * </p>
+     *
+     * @param format the in-memory format to use.
+     * @param source the file to read, or {@code null} to use the bundled dictionary.
+     * @return the loaded dictionary.
+     * @throws UncheckedIOException if no dictionary could be read; the previous one stays in use.
+     */
+    public static WordDictionary loadDictionary(DictionaryFormat format, Path source) {
+        WordDictionary loaded;
+        try {
+            loaded = openDictionary(format, source);
+        } catch (IOException e) {
+            logger.error("Failed to load dictionary", e);
+            throw new UncheckedIOException("Failed to load dictionary", e);
+        }
+        dictionary = loaded;
+        logger.info("Loaded {} dictionary with {} words (~{} KB heap)",
+                loaded.getClass().getSimpleName(), loaded.size(), loaded.heapBytes() / 1024);
+        return loaded;
+    }
+
+    /**
+     * Opens the dictionary in the requested format.
+     *
+     * @param format the in-memory format to use.
+     * @param source the file to read, or {@code null} to use the bundled dictionary.
+     * @return the opened dictionary.
+     * @throws IOException if no dictionary can be read.
+     */
+    private static WordDictionary openDictionary(DictionaryFormat format, Path source) throws IOException {
+        Path compiledFile = null;
+        Path textFile = null;
+        if (source != null) {
+            if (source.getFileName().toString().endsWith(".dict")) {
+                compiledFile = source;
+            } else {
+                textFile = source;
+            }
+        } else if (format != DictionaryFormat.TEXT) {
+            URL compiled = LongestWordFinder.class.getResource(COMPILED_DICTIONARY_RESOURCE);
+            if (compiled != null) {
+                compiledFile = toFile(compiled);
+            } else {
+                logger.warn("No compiled dictionary on the classpath, parsing {}", TEXT_DICTIONARY_PATH);
+            }
+        }
 
-        // Create a File object for the path
-        File file = new File(filePath);
+        if (compiledFile == null) {
+            HashWordDictionary parsed = HashWordDictionary.fromFile(textFile != null ? textFile : Path.of(TEXT_DICTIONARY_PATH));
+            return format == DictionaryFormat.FRONT_CODED ? FrontCodedWordDictionary.fromWords(parsed.words()) : parsed;
+        }
+        MappedWordDictionary mapped = MappedWordDictionary.open(compiledFile);
+        if (format == DictionaryFormat.FRONT_CODED) {
+            return FrontCodedWordDictionary.fromWords(mapped.words());
+        }
+        if (format == DictionaryFormat.TEXT) {
+            return HashWordDictionary.fromWords(mapped.words());
+        }
+        logger.info("Mapped compiled dictionary {} ({} KB off-heap)", compiledFile, mapped.mappedBytes() / 1024);
+        return mapped;
+    }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            String word;
-            while ((word = br.readLine()) != null) {
-                dictionary.add(word.trim().toLowerCase());
+    /**
+     * Resolves a classpath resource to a file that can be memory-mapped, extracting it to a
+     * temporary file when it is packaged inside a jar.
+     *
+     * @param resource the resource URL.
+     * @return a path to the resource contents on the file system.
+     * @throws IOException if the resource cannot be extracted.
+     */
+    private static Path toFile(URL resource) throws IOException {
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                return Path.of(resource.toURI());
+            } catch (URISyntaxException e) {
+                throw new IOException("Invalid dictionary location: " + resource, e);
             }
-        }catch (Exception e) {
-            logger.error("Failed to load dictionary from file: " + filePath, e);
         }
+        Path extracted = Files.createTempFile("words", ".dict");
+        extracted.toFile().deleteOnExit();
+        try (InputStream in = resource.openStream()) {
+            Files.copy(in, extracted, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return extracted;
+    }
+
+    /**
+     * Returns the currently loaded dictionary.
+     *
+     * @return the dictionary, empty until {@link #loadDictionary()} succeeds.
+     */
+    public static WordDictionary getDictionary() {
+        return dictionary;
     }
 
     /**
@@ -70,27 +193,158 @@ public class LongestWordFinder {
      * @return the longest valid word, or {@code null} if no valid word is found.
      */
     public static String findLongestWordInLongestWordFinder(String letters) {
+        return findLongestWord(dictionary, letters);
+    }
+
+    /**
+     * Finds the longest word of the given dictionary that can be formed using the given letters.
+     *
+     * @param dictionary the dictionary to search.
+     * @param letters    a string containing the available letters.
+     * @return the longest valid word, or {@code null} if no valid word is found.
+     */
+    public static String findLongestWord(WordDictionary dictionary, String letters) {
+        return findLongestWord(dictionary, letters, Deadline.NONE).getWord();
+    }
+
+    /**
+     * Finds the longest word of the given dictionary that can be formed using the given letters,
+     * giving up when the deadline passes.
+     *
+     * @param dictionary the dictionary to search.
+     * @param letters    a string containing the available letters.
+     * @param deadline   when to stop searching.
+     * @return the longest valid word, or no word if none exists or the deadline passed first.
+     */
+    public static SolveResult findLongestWord(WordDictionary dictionary, String letters, Deadline deadline) {
 
-        if (dictionary.isEmpty()) {
+        if (dictionary.size() == 0) {
             logger.error("Dictionary is not loaded or empty");
         }
 
         char[] letterArray = letters.toLowerCase(Locale.ROOT).toCharArray(); // give consistent behavior
-        Arrays.sort(letterArray); // Sort to handle permutations efficiently
+        Arrays.sort(letterArray); // Sorted letters make every sub-multiset a valid signature
+
+        // Try sub-multisets of lengths from max to 1
+        char[] signature = new char[letterArray.length];
+        for (int len = letterArray.length; len > 0; len--) {
+            String word = findWordForSignature(dictionary, letterArray, 0, 0, len, signature, deadline);
+            if (word != null) {
+                return new SolveResult(word, true);
+            }
+            if (deadline.isExpired()) {
+                return new SolveResult(null, false);
+            }
+        }
+
+        return new SolveResult(null, true); // No word found
+    }
+
+    /**
+     * Passes every word of the given dictionary that can be formed using the given letters to a
+     * visitor, longest first, until the visitor asks to stop.
+     *
+     * @param dictionary the dictionary to search.
+     * @param letters    a string containing the available letters.
+     * @param visitor    receives each word and returns {@code false} to stop the search.
+     */
+    public static void forEachWord(WordDictionary dictionary, String letters, Predicate<String> visitor) {
+        forEachWord(dictionary, letters, visitor, Deadline.NONE);
+    }
 
-        // Try permutations of lengths from max to 1
+    /**
+     * Passes every word of the given dictionary that can be formed using the given letters to a
+     * visitor, longest first, until the visitor asks to stop or the deadline passes.
+     *
+     * @param dictionary the dictionary to search.
+     * @param letters    a string containing the available letters.
+     * @param visitor    receives each word and returns {@code false} to stop the search.
+     * @param deadline   when to stop searching.
+     * @return {@code false} if the deadline passed before the search finished.
+     */
+    public static boolean forEachWord(WordDictionary dictionary, String letters, Predicate<String> visitor,
+                                      Deadline deadline) {
+        char[] letterArray = letters.toLowerCase(Locale.ROOT).toCharArray();
+        Arrays.sort(letterArray);
+
+        char[] signature = new char[letterArray.length];
         for (int len = letterArray.length; len > 0; len--) {
-            List<String> permutations = generatePermutations(letterArray, len);
+            if (!forEachWordForSignature(dictionary, letterArray, 0, 0, len, signature, visitor, deadline)) {
+                return !deadline.isExpired();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the signature of a word, i.e. its letters in sorted order.
+     *
+     * @param word the word to compute the signature for.
+     * @return the sorted letters of the word.
+     */
+    public static String signatureOf(String word) {
+        char[] chars = word.toCharArray();
+        Arrays.sort(chars);
+        return new String(chars);
+    }
+
+    /**
+     * Recursive helper that walks the distinct sub-multisets of the sorted letters with the given
+     * length and looks each one up in the signature index.
+     *
+     * @param dictionary the dictionary to look signatures up in.
+     * @param letters   the sorted letters available.
+     * @param start     the first index of {@code letters} that may still be chosen.
+     * @param depth     the number of letters chosen so far.
+     * @param length    the desired signature length.
+     * @param signature buffer holding the letters chosen so far.
+     * @param deadline  when to stop searching.
+     * @return the first dictionary word found for the given length, or {@code null} if none exists
+     * or the deadline passed.
+     */
+    private static String findWordForSignature(WordDictionary dictionary, char[] letters, int start, int depth,
+                                               int length, char[] signature, Deadline deadline) {
+        if (depth == length) {
+            return deadline.isExpired() ? null : dictionary.findWordWithSignature(signature, length);
+        }
 
-            // Check each permutation for a valid word
-            for (String word : permutations) {
-                if (dictionary.contains(word)) {
-                    return word;
-                }
+        for (int i = start; i <= letters.length - (length - depth); i++) {
+            if (i > start && letters[i] == letters[i - 1]) {
+                continue; // Skip duplicate letters so each sub-multiset is visited once
             }
+            signature[depth] = letters[i];
+            String word = findWordForSignature(dictionary, letters, i + 1, depth + 1, length, signature, deadline);
+            if (word != null || deadline.isExpired()) {
+                return word;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Recursive helper that walks the distinct sub-multisets of the sorted letters with the given
+     * length and passes every dictionary word with each one to the visitor.
+     *
+     * @return {@code false} if the visitor stopped the search or the deadline passed, {@code true} otherwise.
+     */
+    private static boolean forEachWordForSignature(WordDictionary dictionary, char[] letters, int start, int depth,
+                                                   int length, char[] signature, Predicate<String> visitor,
+                                                   Deadline deadline) {
+        if (depth == length) {
+            return !deadline.isExpired() && dictionary.forEachWordWithSignature(signature, length, visitor);
         }
 
-        return null; // No word found
+        for (int i = start; i <= letters.length - (length - depth); i++) {
+            if (i > start && letters[i] == letters[i - 1]) {
+                continue;
+            }
+            signature[depth] = letters[i];
+            if (!forEachWordForSignature(dictionary, letters, i + 1, depth + 1, length, signature, visitor,
+                    deadline)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -0,0 +1,170 @@
+package com.example.countdown_game.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size-bounded, thread-safe cache that evicts the least recently used entries.
+ * <p>
+ * Entries are spread over several independently locked segments, each an access-ordered
+ * {@link LinkedHashMap}, so concurrent readers of different keys rarely wait on each other.
+ * Eviction is per segment, which keeps the total size at or below the configured maximum.
+ * </p>
+ *
+ * @param <K> the key type.
+ * @param <V> the value type; {@code null} values are not supported.
+ */
+public class LruCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private final List<Segment<K, V>> segments;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int maxSize;
+
+    /**
+     * Creates a cache holding at most {@code maxSize} entries.
+     *
+     * @param maxSize the maximum number of entries; {@code 0} disables caching.
+     */
+    public LruCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Cache size must not be negative: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        int segmentCount = Math.max(1, Math.min(SEGMENTS, maxSize));
+        int perSegment = maxSize / segmentCount;
+        List<Segment<K, V>> created = new ArrayList<>(segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            created.add(new Segment<>(perSegment, evictions));
+        }
+        segments = List.copyOf(created);
+    }
+
+    /**
+     * Looks up a cached value and records a hit or a miss.
+     *
+     * @param key the key to look up.
+     * @return the cached value, or {@code null} if the key is not cached.
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        V value;
+        synchronized (segment) {
+            value = segment.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Adds or replaces a value, evicting the least recently used entry of its segment if full.
+     * Does nothing if caching is disabled.
+     *
+     * @param key   the key to store.
+     * @param value the value to store.
+     */
+    public void put(K key, V value) {
+        if (maxSize == 0) {
+            return;
+        }
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+    /**
+     * Removes a single entry.
+     *
+     * @param key the key to remove.
+     */
+    public void remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Removes every entry. Statistics are kept.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Counts the entries currently cached.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Reports the cache size and its hit, miss and eviction counters.
+     *
+     * @return a map of statistic names to values.
+     */
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("size", size());
+        stats.put("maxSize", maxSize);
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("evictions", evictions.sum());
+        stats.put("hitRate", hitCount + missCount == 0 ? 0.0 : (double) hitCount / (hitCount + missCount));
+        return stats;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments.get(Math.floorMod(hash, segments.size()));
+    }
+
+    /**
+     * One access-ordered slice of the cache.
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+        private final int capacity;
+        private final LongAdder evictions;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.countdown_game.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * {@link WordDictionary} read directly from a file compiled by {@link DictionaryCompiler}.
+ * <p>
+ * The file is memory-mapped, so opening it costs a few system calls, the words live outside the
+ * Java heap, and JVMs on the same host that map the same file share its pages in the OS page
+ * cache. Lookups are binary searches over the sorted offset tables in the file.
+ * </p>
+ */
+public class MappedWordDictionary implements WordDictionary {
+
+    /**
+     * Identifies a compiled dictionary file ("CDDC").
+     */
+    static final int MAGIC = 0x43444443;
+
+    /**
+     * Version of the layout described in {@link DictionaryCompiler}.
+     */
+    static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 6 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int signatureCount;
+    private final int wordCount;
+    private final int signatureOffsetsAt;
+    private final int groupStartsAt;
+    private final int wordOffsetsAt;
+    private final int alphabeticalIdsAt;
+    private final int signatureBytesAt;
+    private final int wordBytesAt;
+
+    private MappedWordDictionary(ByteBuffer buffer, Path file) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a compiled dictionary: " + file);
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported dictionary version " + buffer.getInt(4) + " in " + file);
+        }
+        signatureCount = buffer.getInt(8);
+        wordCount = buffer.getInt(12);
+        int signatureBytes = buffer.getInt(16);
+        signatureOffsetsAt = HEADER_BYTES;
+        groupStartsAt = signatureOffsetsAt + (signatureCount + 1) * Integer.BYTES;
+        wordOffsetsAt = groupStartsAt + (signatureCount + 1) * Integer.BYTES;
+        alphabeticalIdsAt = wordOffsetsAt + (wordCount + 1) * Integer.BYTES;
+        signatureBytesAt = alphabeticalIdsAt + wordCount * Integer.BYTES;
+        wordBytesAt = signatureBytesAt + signatureBytes;
+        if (wordBytesAt + buffer.getInt(20) != buffer.capacity()) {
+            throw new IOException("Truncated or corrupt dictionary: " + file);
+        }
+    }
+
+    /**
+     * Maps a compiled dictionary file into memory.
+     *
+     * @param file the file written by {@link DictionaryCompiler}.
+     * @return a dictionary reading from the mapping.
+     * @throws IOException if the file cannot be mapped or is not a compiled dictionary.
+     */
+    public static MappedWordDictionary open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new MappedWordDictionary(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), file);
+        }
+    }
+
+    @Override
+    public boolean contains(String word) {
+        if (word == null) {
+            return false;
+        }
+        int low = 0;
+        int high = wordCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int id = intAt(alphabeticalIdsAt, mid);
+            int cmp = compare(word, wordBytesAt + intAt(wordOffsetsAt, id), wordBytesAt + intAt(wordOffsetsAt, id + 1));
+            if (cmp == 0) {
+                return true;
+            }
+            if (cmp > 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String findWordWithSignature(char[] signature, int length) {
+        int group = findGroup(signature, length);
+        return group < 0 ? null : wordAt(intAt(groupStartsAt, group));
+    }
+
+    @Override
+    public boolean forEachWordWithSignature(char[] signature, int length, Predicate<String> visitor) {
+        int group = findGroup(signature, length);
+        if (group >= 0) {
+            int end = intAt(groupStartsAt, group + 1);
+            for (int id = intAt(groupStartsAt, group); id < end; id++) {
+                if (!visitor.test(wordAt(id))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Binary searches the sorted signatures.
+     *
+     * @return the index of the signature's anagram group, or {@code -1} if no word has it.
+     */
+    private int findGroup(char[] signature, int length) {
+        int low = 0;
+        int high = signatureCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(signature, length,
+                    signatureBytesAt + intAt(signatureOffsetsAt, mid), signatureBytesAt + intAt(signatureOffsetsAt, mid + 1));
+            if (cmp == 0) {
+                return mid;
+            }
+            if (cmp > 0) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int size() {
+        return wordCount;
+    }
+
+    @Override
+    public Collection<String> words() {
+        List<String> words = new ArrayList<>(wordCount);
+        for (int i = 0; i < wordCount; i++) {
+            words.add(wordAt(intAt(alphabeticalIdsAt, i)));
+        }
+        return words;
+    }
+
+    /**
+     * Only the small header fields live on the heap; the file contents stay in the mapping.
+     */
+    @Override
+    public long heapBytes() {
+        return 64;
+    }
+
+    /**
+     * Gets the size of the mapped file.
+     *
+     * @return the number of bytes mapped outside the heap.
+     */
+    public long mappedBytes() {
+        return buffer.capacity();
+    }
+
+    private int intAt(int tableAt, int index) {
+        return buffer.getInt(tableAt + index * Integer.BYTES);
+    }
+
+    private String wordAt(int id) {
+        int start = wordBytesAt + intAt(wordOffsetsAt, id);
+        byte[] bytes = new byte[wordBytesAt + intAt(wordOffsetsAt, id + 1) - start];
+        buffer.get(start, bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    private int compare(String key, int start, int end) {
+        int length = end - start;
+        int common = Math.min(key.length(), length);
+        for (int i = 0; i < common; i++) {
+            int diff = key.charAt(i) - (buffer.get(start + i) & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return key.length() - length;
+    }
+
+    private int compare(char[] key, int keyLength, int start, int end) {
+        int length = end - start;
+        int common = Math.min(keyLength, length);
+        for (int i = 0; i < common; i++) {
+            int diff = key[i] - (buffer.get(start + i) & 0xFF);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return keyLength - length;
+    }
+}
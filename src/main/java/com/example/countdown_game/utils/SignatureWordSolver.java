@@ -0,0 +1,65 @@
+package com.example.countdown_game.utils;
+
+import java.util.function.Predicate;
+
+/**
+ * {@link WordSolver} that searches the anagram signatures of a {@link WordDictionary} directly,
+ * using the sub-multiset walk of {@link LongestWordFinder}.
+ * <p>
+ * It needs no index beyond the dictionary itself, which makes it the cheapest engine to build.
+ * </p>
+ */
+public class SignatureWordSolver implements WordSolver {
+
+    private final WordDictionary dictionary;
+
+    /**
+     * Creates a solver over the given dictionary.
+     *
+     * @param dictionary the dictionary to search.
+     */
+    public SignatureWordSolver(WordDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    @Override
+    public String findLongestWord(String letters) {
+        return LongestWordFinder.findLongestWord(dictionary, letters);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The number of sub-multisets grows exponentially with the number of letters, so long rounds
+     * rely on the deadline. The search runs longest first, so a word found before the deadline
+     * is already the longest; if the deadline passes first, no word is returned.
+     * </p>
+     */
+    @Override
+    public SolveResult findLongestWord(String letters, Deadline deadline) {
+        return LongestWordFinder.findLongestWord(dictionary, letters, deadline);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Within a length, words are grouped by signature and alphabetical within each group.
+     * </p>
+     */
+    @Override
+    public void forEachWord(String letters, Predicate<String> visitor) {
+        LongestWordFinder.forEachWord(dictionary, letters, visitor);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The deadline is checked before each signature lookup, so the search also stops in time
+     * while it walks long runs of letter combinations that form no word.
+     * </p>
+     */
+    @Override
+    public boolean forEachWord(String letters, Predicate<String> visitor, Deadline deadline) {
+        return LongestWordFinder.forEachWord(dictionary, letters, visitor, deadline);
+    }
+}
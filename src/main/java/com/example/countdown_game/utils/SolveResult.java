@@ -0,0 +1,40 @@
+package com.example.countdown_game.utils;
+
+/**
+ * The outcome of a longest word search that may have been cut short by a {@link Deadline}.
+ */
+public final class SolveResult {
+
+    private final String word;
+    private final boolean complete;
+
+    /**
+     * Creates a result.
+     *
+     * @param word     the longest word found, or {@code null} if none was found.
+     * @param complete {@code true} if the search finished, {@code false} if it ran out of time.
+     */
+    public SolveResult(String word, boolean complete) {
+        this.word = word;
+        this.complete = complete;
+    }
+
+    /**
+     * Gets the longest word found.
+     *
+     * @return the word, or {@code null} if none was found.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * Reports whether the search finished. When it did not, {@link #getWord()} is the best word
+     * found before the deadline and a longer one may exist.
+     *
+     * @return {@code true} if the result is final.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.countdown_game.utils;
+
+import org.slf4j.LoggerFactory;
+
+/**
+ * The solver engines that can be selected with the {@code game.solver.engine} property.
+ */
+public enum SolverEngine {
+
+    /**
+     * Anagram-signature lookups with a {@link SignatureWordSolver} against the dictionary itself.
+     */
+    SIGNATURE {
+        @Override
+        public WordSolver createSolver(WordDictionary dictionary) {
+            return new SignatureWordSolver(dictionary);
+        }
+    },
+
+    /**
+     * Backtracking over a {@link TrieWordSolver} built from the dictionary.
+     */
+    TRIE {
+        @Override
+        public WordSolver createSolver(WordDictionary dictionary) {
+            return TrieWordSolver.fromWords(dictionary.words());
+        }
+    },
+
+    /**
+     * Set algebra over a {@link BitmapIndexWordSolver} letter-count index.
+     */
+    BITMAP {
+        @Override
+        public WordSolver createSolver(WordDictionary dictionary) {
+            return BitmapIndexWordSolver.fromWords(dictionary.words());
+        }
+    },
+
+    /**
+     * Experimental SIMD scan with a {@link VectorScanWordSolver}. Falls back to {@link #BITMAP}
+     * when the JVM was started without the {@code jdk.incubator.vector} module.
+     */
+    VECTOR {
+        @Override
+        public WordSolver createSolver(WordDictionary dictionary) {
+            if (!isVectorApiAvailable()) {
+                LoggerFactory.getLogger(SolverEngine.class)
+                        .warn("jdk.incubator.vector is not available, using the BITMAP engine instead");
+                return BITMAP.createSolver(dictionary);
+            }
+            return VectorScanWordSolver.fromWords(dictionary.words());
+        }
+    };
+
+    /**
+     * Reports whether the Vector API module is available in this JVM.
+     * <p>
+     * This must be checked before {@link VectorScanWordSolver} is touched at all: its static
+     * initializer uses the module, so without it any call into the class fails with
+     * {@link NoClassDefFoundError}.
+     * </p>
+     *
+     * @return {@code true} if {@code jdk.incubator.vector} was added to the boot layer.
+     */
+    public static boolean isVectorApiAvailable() {
+        return ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+    }
+
+    /**
+     * Builds the solver for this engine.
+     *
+     * @param dictionary the dictionary the solver should know about.
+     * @return a ready to use {@link WordSolver}.
+     */
+    public abstract WordSolver createSolver(WordDictionary dictionary);
+}
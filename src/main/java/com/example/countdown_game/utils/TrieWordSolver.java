@@ -0,0 +1,314 @@
+package com.example.countdown_game.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * {@link WordSolver} that walks a compact trie of the dictionary with a per-letter budget.
+ * <p>
+ * The trie is stored as parallel arrays (first child, next sibling, letter) instead of node
+ * objects. A search only descends into children whose letter is still available in the budget,
+ * so it never builds strings that cannot become words and its cost is bounded by the size of the
+ * trie rather than by the number of permutations of the letters. This keeps rounds with far more
+ * than nine letters cheap to solve.
+ * </p>
+ */
+public class TrieWordSolver implements WordSolver {
+    private static final Logger logger = LoggerFactory.getLogger(TrieWordSolver.class);
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private final byte[] letter;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final boolean[] terminal;
+
+    /**
+     * The length of the longest word suffix below each node, used to prune branches that cannot
+     * beat the best word found so far.
+     */
+    private final byte[] height;
+
+    private TrieWordSolver(byte[] letter, int[] firstChild, int[] nextSibling, boolean[] terminal, byte[] height) {
+        this.letter = letter;
+        this.firstChild = firstChild;
+        this.nextSibling = nextSibling;
+        this.terminal = terminal;
+        this.height = height;
+    }
+
+    /**
+     * Builds a trie from the given dictionary words.
+     * <p>
+     * Words containing anything other than the letters {@code a-z} are skipped.
+     * </p>
+     *
+     * @param words the dictionary words, in lower case.
+     * @return a solver backed by the new trie.
+     */
+    public static TrieWordSolver fromWords(Collection<String> words) {
+        List<String> sorted = new ArrayList<>(words.size());
+        for (String word : words) {
+            if (isLowerAscii(word)) {
+                sorted.add(word);
+            }
+        }
+        Collections.sort(sorted);
+
+        Builder builder = new Builder(sorted.size() * 3);
+        for (String word : sorted) {
+            builder.add(word);
+        }
+        TrieWordSolver solver = builder.build();
+        logger.info("Built trie with {} nodes from {} words", solver.letter.length, sorted.size());
+        return solver;
+    }
+
+    /**
+     * Finds the longest valid word that can be formed using the given letters.
+     * <p>
+     * When several words share the longest length, the alphabetically first one is returned.
+     * Characters other than letters are ignored.
+     * </p>
+     *
+     * @param letters a string containing the available letters.
+     * @return the longest valid word, or {@code null} if no valid word is found.
+     */
+    @Override
+    public String findLongestWord(String letters) {
+        return findLongestWord(letters, Deadline.NONE).getWord();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The walk polls the deadline every few thousand nodes. When it passes, the longest word
+     * found so far is returned as an incomplete result.
+     * </p>
+     */
+    @Override
+    public SolveResult findLongestWord(String letters, Deadline deadline) {
+        int[] budget = new int[26];
+        int available = countLetters(letters, budget);
+
+        Search search = new Search(budget, available, deadline);
+        search.walk(ROOT, 0, available);
+        String best = search.bestLength == 0 ? null : new String(search.best, 0, search.bestLength);
+        return new SolveResult(best, !search.expired);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The trie is walked once per word length, longest first, and each walk only descends into
+     * branches that are deep enough. Within a length, words come out in alphabetical order.
+     * </p>
+     */
+    @Override
+    public void forEachWord(String letters, Predicate<String> visitor) {
+        int[] budget = new int[26];
+        int available = countLetters(letters, budget);
+        char[] path = new char[available];
+        for (int length = Math.min(available, height[ROOT]); length > 0; length--) {
+            if (!emit(ROOT, 0, length, budget, path, visitor)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Passes every word of exactly {@code length} letters below a node to the visitor.
+     *
+     * @return {@code false} if the visitor stopped the search, {@code true} otherwise.
+     */
+    private boolean emit(int node, int depth, int length, int[] budget, char[] path, Predicate<String> visitor) {
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            int index = letter[child];
+            if (budget[index] == 0 || depth + 1 + height[child] < length) {
+                continue;
+            }
+            budget[index]--;
+            path[depth] = (char) ('a' + index);
+            boolean more = depth + 1 == length
+                    ? !terminal[child] || visitor.test(new String(path, 0, length))
+                    : emit(child, depth + 1, length, budget, path, visitor);
+            budget[index]++;
+            if (!more) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Counts the letters {@code a-z} in a round, ignoring case and any other characters.
+     *
+     * @return the total number of letters counted.
+     */
+    private static int countLetters(String letters, int[] budget) {
+        int available = 0;
+        for (int i = 0; i < letters.length(); i++) {
+            int index = Character.toLowerCase(letters.charAt(i)) - 'a';
+            if (index >= 0 && index < 26) {
+                budget[index]++;
+                available++;
+            }
+        }
+        return available;
+    }
+
+    /**
+     * State of a single backtracking search.
+     */
+    private final class Search {
+        /**
+         * Number of nodes visited between two checks of the deadline.
+         */
+        private static final int DEADLINE_CHECK_INTERVAL = 4096;
+
+        private final int[] budget;
+        private final char[] path;
+        private final char[] best;
+        private final Deadline deadline;
+        private int bestLength;
+        private int visits;
+        private boolean expired;
+
+        private Search(int[] budget, int available, Deadline deadline) {
+            this.budget = budget;
+            this.path = new char[available];
+            this.best = new char[available];
+            this.deadline = deadline;
+        }
+
+        /**
+         * Visits the children of a node that the remaining budget can still pay for.
+         *
+         * @param node      the current trie node.
+         * @param depth     the length of the prefix spelled by {@code node}.
+         * @param remaining the number of letters left in the budget.
+         */
+        private void walk(int node, int depth, int remaining) {
+            if (depth + remaining <= bestLength) {
+                return; // Even using every remaining letter cannot beat the best word
+            }
+            if (++visits % DEADLINE_CHECK_INTERVAL == 0 && deadline.isExpired()) {
+                expired = true;
+            }
+            if (expired) {
+                return;
+            }
+            for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+                int index = letter[child];
+                if (budget[index] == 0 || depth + 1 + height[child] <= bestLength) {
+                    continue;
+                }
+                budget[index]--;
+                path[depth] = (char) ('a' + index);
+                if (terminal[child] && depth + 1 > bestLength) {
+                    bestLength = depth + 1;
+                    System.arraycopy(path, 0, best, 0, bestLength);
+                }
+                walk(child, depth + 1, remaining - 1);
+                budget[index]++;
+            }
+        }
+    }
+
+    /**
+     * Incrementally builds the trie arrays from words supplied in sorted order.
+     * <p>
+     * Because the input is sorted, a node's matching child (if any) is always the child that was
+     * added last, so lookups during construction never scan sibling lists.
+     * </p>
+     */
+    private static final class Builder {
+        private byte[] letter;
+        private int[] firstChild;
+        private int[] lastChild;
+        private int[] nextSibling;
+        private int[] parent;
+        private boolean[] terminal;
+        private int size;
+
+        private Builder(int capacity) {
+            letter = new byte[Math.max(capacity, 16)];
+            firstChild = new int[letter.length];
+            lastChild = new int[letter.length];
+            nextSibling = new int[letter.length];
+            parent = new int[letter.length];
+            terminal = new boolean[letter.length];
+            newNode(NONE, (byte) 0);
+        }
+
+        private void add(String word) {
+            int node = ROOT;
+            for (int i = 0; i < word.length(); i++) {
+                byte index = (byte) (word.charAt(i) - 'a');
+                int last = lastChild[node];
+                node = last != NONE && letter[last] == index ? last : newNode(node, index);
+            }
+            terminal[node] = true;
+        }
+
+        private int newNode(int parentNode, byte index) {
+            if (size == letter.length) {
+                int capacity = size * 2;
+                letter = Arrays.copyOf(letter, capacity);
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                lastChild = Arrays.copyOf(lastChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                parent = Arrays.copyOf(parent, capacity);
+                terminal = Arrays.copyOf(terminal, capacity);
+            }
+            int node = size++;
+            letter[node] = index;
+            firstChild[node] = NONE;
+            lastChild[node] = NONE;
+            nextSibling[node] = NONE;
+            parent[node] = parentNode;
+            if (parentNode != NONE) {
+                if (lastChild[parentNode] == NONE) {
+                    firstChild[parentNode] = node;
+                } else {
+                    nextSibling[lastChild[parentNode]] = node;
+                }
+                lastChild[parentNode] = node;
+            }
+            return node;
+        }
+
+        private TrieWordSolver build() {
+            // Children are always created after their parent, so a reverse sweep sees every
+            // child's final height before it is folded into the parent.
+            byte[] height = new byte[size];
+            for (int node = size - 1; node > ROOT; node--) {
+                int up = parent[node];
+                height[up] = (byte) Math.max(height[up], height[node] + 1);
+            }
+            return new TrieWordSolver(Arrays.copyOf(letter, size), Arrays.copyOf(firstChild, size),
+                    Arrays.copyOf(nextSibling, size), Arrays.copyOf(terminal, size), height);
+        }
+    }
+
+    private static boolean isLowerAscii(String word) {
+        if (word.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.countdown_game.utils;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Experimental {@link WordSolver} that scans every dictionary word's letter histogram with SIMD
+ * compares from the {@code jdk.incubator.vector} module.
+ * <p>
+ * Histograms are stored column by column in one packed {@code byte[]}: the count of letter
+ * {@code c} in word {@code i} lives at {@code c * stride + i}. A scan loads a vector of counts for
+ * each letter, compares it against the round's count and ORs the "needs more than available"
+ * masks together, so every word is tested with the same fixed sequence of instructions. Chunks of
+ * the dictionary are scanned in parallel, and one pass answers longest, all and count queries.
+ * </p>
+ * <p>
+ * Word ids are assigned longest first (alphabetically within a length), so the first match is
+ * always the longest word. The JVM must be started with {@code --add-modules jdk.incubator.vector};
+ * check {@link SolverEngine#isVectorApiAvailable()} before using this class.
+ * </p>
+ */
+public class VectorScanWordSolver implements WordSolver {
+    private static final Logger logger = LoggerFactory.getLogger(VectorScanWordSolver.class);
+
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    /**
+     * Number of words scanned by one parallel task.
+     */
+    private static final int CHUNK_SIZE = SPECIES.length() * 256;
+
+    private final String[] words;
+    private final byte[] columns;
+    private final int stride;
+
+    /**
+     * The highest count of each letter in any word, used to skip columns no word can fail on.
+     */
+    private final byte[] maxCount;
+
+    private VectorScanWordSolver(String[] words, byte[] columns, int stride, byte[] maxCount) {
+        this.words = words;
+        this.columns = columns;
+        this.stride = stride;
+        this.maxCount = maxCount;
+    }
+
+    /**
+     * Builds the columnar histogram table from the given dictionary words.
+     * <p>
+     * Words containing anything other than the letters {@code a-z} are skipped.
+     * </p>
+     *
+     * @param dictionary the dictionary words, in lower case.
+     * @return a solver backed by the new table.
+     */
+    public static VectorScanWordSolver fromWords(Collection<String> dictionary) {
+        List<String> sorted = new ArrayList<>(dictionary.size());
+        for (String word : dictionary) {
+            if (!word.isEmpty() && word.chars().allMatch(c -> c >= 'a' && c <= 'z')) {
+                sorted.add(word);
+            }
+        }
+        sorted.sort(Comparator.comparingInt(String::length).reversed().thenComparing(Comparator.naturalOrder()));
+
+        // Pad each column to a whole number of vectors so the scan never needs a tail loop
+        int stride = (sorted.size() + SPECIES.length() - 1) / SPECIES.length() * SPECIES.length();
+        byte[] columns = new byte[26 * stride];
+        byte[] maxCount = new byte[26];
+        for (int id = 0; id < sorted.size(); id++) {
+            String word = sorted.get(id);
+            for (int i = 0; i < word.length(); i++) {
+                int letter = word.charAt(i) - 'a';
+                byte count = ++columns[letter * stride + id];
+                maxCount[letter] = (byte) Math.max(maxCount[letter], count);
+            }
+        }
+        logger.info("Built {}-lane columnar histogram table over {} words ({} KB)",
+                SPECIES.length(), sorted.size(), columns.length / 1024);
+        return new VectorScanWordSolver(sorted.toArray(new String[0]), columns, stride, maxCount);
+    }
+
+    /**
+     * Finds the longest valid word that can be formed using the given letters.
+     *
+     * @param letters a string containing the available letters.
+     * @return the longest valid word, or {@code null} if no valid word is found.
+     */
+    @Override
+    public String findLongestWord(String letters) {
+        return scan(letters).getLongestWord();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Chunks are scanned one after another on the calling thread, so words reach the visitor as
+     * soon as their chunk is done. Within a length, words come out in alphabetical order.
+     * </p>
+     */
+    @Override
+    public void forEachWord(String letters, Predicate<String> visitor) {
+        byte[] available = countLetters(letters);
+        for (int from = 0; from < stride; from += CHUNK_SIZE) {
+            for (int id : scanChunk(from, Math.min(stride, from + CHUNK_SIZE), available)) {
+                if (!visitor.test(words[id])) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests every dictionary word against the given letters in a single pass.
+     *
+     * @param letters a string containing the available letters.
+     * @return the longest word, every matching word and the number of matches.
+     */
+    public ScanResult scan(String letters) {
+        byte[] available = countLetters(letters);
+        int chunks = (stride + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        List<int[]> matches = IntStream.range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> scanChunk(chunk * CHUNK_SIZE, Math.min(stride, (chunk + 1) * CHUNK_SIZE), available))
+                .collect(Collectors.toList());
+
+        List<String> found = new ArrayList<>();
+        for (int[] ids : matches) {
+            for (int id : ids) {
+                found.add(words[id]);
+            }
+        }
+        return new ScanResult(found);
+    }
+
+    /**
+     * Counts the letters {@code a-z} in a round, ignoring case and any other characters.
+     *
+     * @param letters a string containing the available letters.
+     * @return the count of each letter, saturated at {@link Byte#MAX_VALUE}.
+     */
+    private static byte[] countLetters(String letters) {
+        byte[] available = new byte[26];
+        for (int i = 0; i < letters.length(); i++) {
+            int index = Character.toLowerCase(letters.charAt(i)) - 'a';
+            if (index >= 0 && index < 26 && available[index] < Byte.MAX_VALUE) {
+                available[index]++;
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Scans the words with ids in {@code [from, to)}.
+     *
+     * @param from      the first id to scan, a multiple of the vector length.
+     * @param to        the id to stop at, a multiple of the vector length.
+     * @param available the round's count of each letter.
+     * @return the ids of matching words, in ascending order.
+     */
+    private int[] scanChunk(int from, int to, byte[] available) {
+        int[] ids = new int[16];
+        int size = 0;
+        for (int i = from; i < to; i += SPECIES.length()) {
+            VectorMask<Byte> tooMany = SPECIES.maskAll(false);
+            for (int letter = 0; letter < 26; letter++) {
+                if (maxCount[letter] > available[letter]) {
+                    ByteVector counts = ByteVector.fromArray(SPECIES, columns, letter * stride + i);
+                    tooMany = tooMany.or(counts.compare(VectorOperators.GT, available[letter]));
+                }
+            }
+            VectorMask<Byte> fits = tooMany.not();
+            if (!fits.anyTrue()) {
+                continue;
+            }
+            if (SPECIES.length() <= Long.SIZE) {
+                long lanes = fits.toLong();
+                while (lanes != 0) {
+                    int id = i + Long.numberOfTrailingZeros(lanes);
+                    lanes &= lanes - 1;
+                    if (id >= words.length) {
+                        break; // Padding lanes past the last word
+                    }
+                    ids = append(ids, size++, id);
+                }
+            } else {
+                // toLong() only holds the first 64 lanes of wider species
+                for (int lane = fits.firstTrue(); lane < SPECIES.length() && i + lane < words.length; lane++) {
+                    if (fits.laneIsSet(lane)) {
+                        ids = append(ids, size++, i + lane);
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(ids, size);
+    }
+
+    private static int[] append(int[] ids, int size, int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        ids[size] = id;
+        return ids;
+    }
+
+    /**
+     * The answers produced by one scan of the dictionary.
+     */
+    public static class ScanResult {
+        private final List<String> words;
+
+        private ScanResult(List<String> words) {
+            this.words = words;
+        }
+
+        /**
+         * Gets the longest matching word.
+         *
+         * @return the longest word, or {@code null} if nothing matched.
+         */
+        public String getLongestWord() {
+            return words.isEmpty() ? null : words.get(0);
+        }
+
+        /**
+         * Gets every matching word.
+         *
+         * @return the words, longest first and alphabetically within a length.
+         */
+        public List<String> getWords() {
+            return words;
+        }
+
+        /**
+         * Gets the number of matching words.
+         *
+         * @return the match count.
+         */
+        public int getCount() {
+            return words.size();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.countdown_game.utils;
+
+import java.util.Collection;
+import java.util.function.Predicate;
+
+/**
+ * Read-only view of the dictionary used to validate and solve rounds.
+ * <p>
+ * Besides membership checks, a dictionary can look words up by signature (their letters in
+ * sorted order), which is what the anagram search in {@link LongestWordFinder} relies on.
+ * Implementations are immutable once built and safe to share between threads.
+ * </p>
+ */
+public interface WordDictionary {
+
+    /**
+     * Checks whether the given word is in the dictionary.
+     *
+     * @param word the word to look up, in lower case.
+     * @return {@code true} if the word exists in the dictionary, {@code false} otherwise.
+     */
+    boolean contains(String word);
+
+    /**
+     * Finds the alphabetically first word whose sorted letters equal the given signature.
+     *
+     * @param signature buffer holding the sorted letters.
+     * @param length    the number of letters of {@code signature} to use.
+     * @return the matching word, or {@code null} if no word has this signature.
+     */
+    String findWordWithSignature(char[] signature, int length);
+
+    /**
+     * Passes every word whose sorted letters equal the given signature to a visitor, in
+     * alphabetical order, until the visitor asks to stop.
+     *
+     * @param signature buffer holding the sorted letters.
+     * @param length    the number of letters of {@code signature} to use.
+     * @param visitor   receives each word and returns {@code false} to stop.
+     * @return {@code false} if the visitor stopped early, {@code true} otherwise.
+     */
+    boolean forEachWordWithSignature(char[] signature, int length, Predicate<String> visitor);
+
+    /**
+     * Counts the words in the dictionary.
+     *
+     * @return the number of words.
+     */
+    int size();
+
+    /**
+     * Lists every word in the dictionary, for building the other solver indexes.
+     *
+     * @return the dictionary words, in lower case.
+     */
+    Collection<String> words();
+
+    /**
+     * Estimates how much Java heap the dictionary occupies, for sizing containers.
+     *
+     * @return the approximate size in bytes.
+     */
+    long heapBytes();
+}
@@ -0,0 +1,75 @@
+package com.example.countdown_game.utils;
+
+import java.util.function.Predicate;
+
+/**
+ * Strategy for finding the longest dictionary word that can be formed from a set of letters.
+ * <p>
+ * Implementations are built once from the loaded dictionary and must be safe to call from
+ * multiple request threads at the same time.
+ * </p>
+ */
+public interface WordSolver {
+
+    /**
+     * Finds the longest valid word that can be formed using the given letters.
+     *
+     * @param letters a string containing the available letters.
+     * @return the longest valid word, or {@code null} if no valid word is found.
+     */
+    String findLongestWord(String letters);
+
+    /**
+     * Finds the longest valid word that can be formed using the given letters, giving up when the
+     * deadline passes.
+     * <p>
+     * The default runs {@link #findLongestWord(String)} to completion, which suits engines whose
+     * cost is bounded by the dictionary size rather than by the number of letters.
+     * </p>
+     *
+     * @param letters  a string containing the available letters.
+     * @param deadline when to stop searching and return the best word found so far.
+     * @return the best word found and whether the search finished.
+     */
+    default SolveResult findLongestWord(String letters, Deadline deadline) {
+        return new SolveResult(findLongestWord(letters), true);
+    }
+
+    /**
+     * Passes every dictionary word that can be formed using the given letters to a visitor,
+     * longest first, until the visitor asks to stop.
+     * <p>
+     * Words are handed over while the search runs, so callers can stream them or stop after the
+     * first few without the full list ever being built.
+     * </p>
+     *
+     * @param letters a string containing the available letters.
+     * @param visitor receives each word and returns {@code false} to stop the search.
+     */
+    void forEachWord(String letters, Predicate<String> visitor);
+
+    /**
+     * Passes every dictionary word that can be formed using the given letters to a visitor,
+     * longest first, until the visitor asks to stop or the deadline passes.
+     * <p>
+     * The default checks the deadline before each word, which suits engines whose cost is
+     * bounded by the dictionary size rather than by the number of letters.
+     * </p>
+     *
+     * @param letters  a string containing the available letters.
+     * @param visitor  receives each word and returns {@code false} to stop the search.
+     * @param deadline when to stop searching.
+     * @return {@code false} if the deadline passed before the search finished.
+     */
+    default boolean forEachWord(String letters, Predicate<String> visitor, Deadline deadline) {
+        boolean[] expired = new boolean[1];
+        forEachWord(letters, word -> {
+            if (deadline.isExpired()) {
+                expired[0] = true;
+                return false;
+            }
+            return visitor.test(word);
+        });
+        return !expired[0];
+    }
+}
@@ -1,24 +1,110 @@
 const urlParams = new URLSearchParams(window.location.search);
 const playerName = urlParams.get("playerName");
 
+/**
+ * Number of scores requested per page.
+ */
+const PAGE_SIZE = 50;
+
+/**
+ * Cursor of the next page of scores, or null once the last page is shown.
+ */
+let nextCursor = null;
+
+/**
+ * Number of rounds rendered so far, used to number the table rows.
+ */
+let roundsShown = 0;
+
+/**
+ * Fetch the player's totals, which the server keeps up to date as scores are saved.
+ * A player without saved scores is answered with 404 and has no totals yet.
+ *
+ * @returns {Promise<Object>} The player's statistics.
+ */
+function fetchPlayerStats() {
+    return fetch(`/api/scores/playerStats?playerName=${encodeURIComponent(playerName)}`)
+        .then(response => {
+            if (response.status === 404) {
+                return {gamesPlayed: 0, averageScore: 0};
+            }
+            if (!response.ok) {
+                throw new Error(`HTTP ${response.status}`);
+            }
+            return response.json();
+        });
+}
+
+/**
+ * Fetch one page of the player's scores, oldest first, and remember the cursor
+ * the endpoint returns in the X-Next-Cursor header for the following page.
+ *
+ * @param {string|null} cursor - The cursor of the page to fetch, or null for the first page.
+ * @returns {Promise<Array>} The scores of the page.
+ */
+function fetchScorePage(cursor) {
+    let url = `/api/scores/endScreen?playerName=${encodeURIComponent(playerName)}&limit=${PAGE_SIZE}`;
+    if (cursor) {
+        url += `&cursor=${encodeURIComponent(cursor)}`;
+    }
+    return fetch(url)
+        .then(response => {
+            if (!response.ok) {
+                throw new Error(`HTTP ${response.status}`);
+            }
+            nextCursor = response.headers.get("X-Next-Cursor");
+            return response.json();
+        });
+}
+
+/**
+ * Append a page of scores to the table and show the "Load more" button while more pages follow.
+ *
+ * @param {Array} scores - The scores of the page, oldest first.
+ */
+function renderScores(scores) {
+    const rows = scores.map(score => `
+        <tr>
+            <td>${++roundsShown}</td>
+            <td>${score.selectedAlphabet}</td>
+            <td>${score.answered}</td>
+            <td>${score.scoreValue}</td>
+            <td>${score.longestPossibleWord || 'N/A'}</td>
+        </tr>
+    `).join('');
+    document.getElementById("score-rows").insertAdjacentHTML("beforeend", rows);
+    document.getElementById("load-more-btn").style.display = nextCursor ? "" : "none";
+}
+
+/**
+ * Fetch the next page of scores and append it to the table.
+ */
+function loadMoreScores() {
+    const button = document.getElementById("load-more-btn");
+    button.disabled = true;
+    fetchScorePage(nextCursor)
+        .then(renderScores)
+        .catch(error => {
+            console.error('Error fetching score data:', error);
+        })
+        .finally(() => {
+            button.disabled = false;
+        });
+}
 
 /**
  * fetch the data from the backend and update the table
  */
 function loadScores() {
-    // Use a playerName dynamically, or set it manually
-    // Replace with actual player's name dynamically or pass as a parameter
-
-    // Fetch the score data from the backend
-    fetch(`/api/scores/endScreen?playerName=${playerName}`)
-        .then(response => response.json())
-        .then(scores => {
-            const totalPoints = scores.reduce((sum, score) => sum + score.scoreValue, 0);
+    // Totals come from the player's statistics, so only the first page of rounds is fetched
+    Promise.all([fetchPlayerStats(), fetchScorePage(null)])
+        .then(([stats, scores]) => {
+            const totalPoints = Math.round(stats.averageScore * stats.gamesPlayed);
 
             // Generate the HTML content dynamically
             let content = `
             <h2>Scores for ${playerName}</h2>
-            <p>Total Rounds: ${scores.length}</p>
+            <p>Total Rounds: ${stats.gamesPlayed}</p>
             <p>Total Points: ${totalPoints}</p>
             <table class="score-table">
                 <thead>
@@ -30,29 +116,20 @@ function loadScores() {
                         <th>Longest Possible Word</th>
                     </tr>
                 </thead>
-                <tbody>
-                    ${scores.map((score, index) => `
-                        <tr>
-                            <td>${index + 1}</td>
-                            <td>${score.selectedAlphabet}</td>
-                            <td>${score.answered}</td>
-                            <td>${score.scoreValue}</td>
-                            <td>${score.longestPossibleWord || 'N/A'}</td>
-                        </tr>
-                    `).join('')}
-                </tbody>
+                <tbody id="score-rows"></tbody>
             </table>
+            <button onclick="loadMoreScores()" class="back-btn" id="load-more-btn" style="display: none">Load more</button>
         `;
 
             // Insert the generated content into the end screen div
             document.getElementById("end-screen-content").innerHTML = content;
+            renderScores(scores);
         })
         .catch(error => {
             console.error('Error fetching score data:', error);
         });
 }
 
-
 /**
  * Redirects the user back to the home page, preserving the player name.
  */
@@ -8,6 +8,8 @@ let timeLeft = 30; // Time remaining for the round
 let currentRound = 1; // Start from round 1
 const totalRounds = 5; // Total number of rounds
 let totalPoints = 0;
+let dealtVowels = []; // Vowels drawn for the round, handed out one per click
+let dealtConsonants = []; // Consonants drawn for the round, handed out one per click
 
 // DOM Elements
 const slotsContainer = document.getElementById('letter-slots'); // Container for letter slots
@@ -31,16 +33,21 @@ if (playerName) {
 // Initialize 9 empty slots in the UI
 
 /**
- * Fetches a letter (vowel or consonant) from the backend API.
- * @param {string} type - The type of letter to fetch ('vowels' or 'consonants').
+ * Draws the letters of a round from the backend API in a single call.
+ * A player may pick every slot as a vowel or every slot as a consonant, so
+ * enough of both are drawn up front and the letter buttons hand them out
+ * without another request.
  */
-function fetchLetter(type) {
-    fetch(`/api/game/${type}`) // API call to fetch one letter
+function dealLetters() {
+    fetch(`/api/game/letters?vowels=${totalSlots}&consonants=${totalSlots}`) // API call to fetch the round's letters
         .then(response => response.json())
-        .then(letter => {
-            addLetter(letter); // Add the fetched letter to the UI
+        .then(letters => {
+            dealtVowels = letters.slice(0, totalSlots);
+            dealtConsonants = letters.slice(totalSlots);
+            vowelButton.disabled = false;
+            consonantButton.disabled = false;
         })
-        .catch(error => console.error('Error fetching letter:', error));
+        .catch(error => console.error('Error fetching letters:', error));
 }
 
 /**
@@ -51,8 +58,9 @@ function startGame() {
         clearInterval(timerInterval);
         timeLeft = 30;
         timerDisplay.textContent = timeLeft;
-        vowelButton.disabled = false;
-        consonantButton.disabled = false;
+        // The letter buttons are enabled once the round's letters arrive
+        vowelButton.disabled = true;
+        consonantButton.disabled = true;
         // Initially disable the Play Again button
         submitButton.disabled = true;
         wordInput.disabled = true;
@@ -66,6 +74,7 @@ function startGame() {
         currentLetters = [];
         roundNumber.textContent = `Round ${currentRound}`;
         points.textContent = totalPoints;
+        dealLetters();
     } else {
         endGame()
     }
@@ -128,12 +137,12 @@ if (!playerName) {
 
 // Event listener for vowel button
 vowelButton.addEventListener('click', () => {
-    fetchLetter('vowels');
+    addLetter(dealtVowels.shift());
 });
 
 // Event listener for consonant button
 consonantButton.addEventListener('click', () => {
-    fetchLetter('consonants');
+    addLetter(dealtConsonants.shift());
 });
 
 wordInput.addEventListener("input", function (e) {
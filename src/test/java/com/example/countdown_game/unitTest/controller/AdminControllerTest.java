@@ -0,0 +1,52 @@
+package com.example.countdown_game.unitTest.controller;
+
+import com.example.countdown_game.controller.AdminController;
+import com.example.countdown_game.service.GameService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AdminControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(new AdminController(gameService)).build();
+    }
+
+    @Test
+    void testGetDictionaryInfo() throws Exception {
+        when(gameService.getDictionaryInfo()).thenReturn(Map.of("version", 3, "reloading", false));
+
+        mockMvc.perform(get("/api/admin/dictionary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(3))
+                .andExpect(jsonPath("$.reloading").value(false));
+    }
+
+    @Test
+    void testReloadDictionary_Accepted() throws Exception {
+        when(gameService.getDictionaryInfo()).thenReturn(Map.of("version", 1, "reloading", true));
+
+        mockMvc.perform(post("/api/admin/dictionary/reload"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.reloading").value(true));
+
+        verify(gameService, times(1)).reloadDictionary();
+    }
+}
@@ -1,19 +1,39 @@
 package com.example.countdown_game.unitTest.controller;
 
 import com.example.countdown_game.controller.GameController;
+import com.example.countdown_game.exception.DictionaryNotReadyException;
+import com.example.countdown_game.exception.GlobalExceptionHandler;
+import com.example.countdown_game.exception.RoundClosedException;
+import com.example.countdown_game.exception.RoundNotFoundException;
+import com.example.countdown_game.exception.SolverOverloadedException;
 import com.example.countdown_game.service.GameService;
+import com.example.countdown_game.service.Round;
+import com.example.countdown_game.service.RoundPool;
+import com.example.countdown_game.service.RoundSession;
+import com.example.countdown_game.service.RoundSessionStore;
 import com.example.countdown_game.service.ScoreService;
+import com.example.countdown_game.utils.SolveResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
+import java.util.HashMap;
 import java.util.List;
-
-import static org.mockito.Mockito.when;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -28,6 +48,12 @@ public class GameControllerTest {
     @Mock
     private ScoreService scoreService;
 
+    @Mock
+    private RoundPool roundPool;
+
+    @Mock
+    private RoundSessionStore roundSessions;
+
     @InjectMocks
     private GameController gameController;
 
@@ -65,7 +91,7 @@ public class GameControllerTest {
         String longestWord = "FACE";
 
         when(gameService.validateWord(word, currentLetters)).thenReturn(true);
-        when(gameService.findLongestWord(currentLetters)).thenReturn(longestWord);
+        when(gameService.solve(currentLetters)).thenReturn(new SolveResult(longestWord, true));
         when(scoreService.saveScore(playerName, currentLetters, word, word.length(), longestWord)).thenReturn(true);
 
         mockMvc.perform(post("/api/game/validate")
@@ -79,6 +105,63 @@ public class GameControllerTest {
                 .andExpect(jsonPath("$.longestWord").value(longestWord));
     }
 
+    @Test
+    void testValidateWord_ByRoundId() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        Round round = new Round("AEONDCTUW", "countdown", 120, 1);
+        when(roundSessions.get("round-1")).thenReturn(new RoundSession("round-1", round,
+                Instant.parse("2030-01-01T00:00:30Z"), Instant.parse("2030-01-01T00:05:00Z")));
+        when(gameService.validateWord("count", "AEONDCTUW")).thenReturn(true);
+
+        mockMvc.perform(post("/api/game/validate")
+                        .param("word", "count")
+                        .param("roundId", "round-1")
+                        .param("playerName", "Player1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isValid").value(true))
+                .andExpect(jsonPath("$.score").value(5))
+                .andExpect(jsonPath("$.longestWord").value("countdown"));
+
+        verify(gameService, never()).solve(any());
+        verify(scoreService).saveScore("Player1", "AEONDCTUW", "count", 5, "countdown");
+    }
+
+    @Test
+    void testValidateWord_UnknownRound() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        when(roundSessions.get("gone")).thenThrow(new RoundNotFoundException("Round gone does not exist or has expired."));
+
+        mockMvc.perform(post("/api/game/validate")
+                        .param("word", "count")
+                        .param("roundId", "gone")
+                        .param("playerName", "Player1"))
+                .andExpect(status().isNotFound());
+
+        verify(scoreService, never()).saveScore(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testValidateWord_AfterDeadline() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        when(roundSessions.get("round-1")).thenThrow(new RoundClosedException("Round round-1 closed."));
+
+        mockMvc.perform(post("/api/game/validate")
+                        .param("word", "count")
+                        .param("roundId", "round-1")
+                        .param("playerName", "Player1"))
+                .andExpect(status().isGone());
+
+        verify(gameService, never()).validateWord(any(), any());
+        verify(scoreService, never()).saveScore(any(), any(), any(), anyInt(), any());
+    }
+
     @Test
     void testValidateWord_InvalidWord() throws Exception {
         mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
@@ -88,6 +171,7 @@ public class GameControllerTest {
         String playerName = "Player2";
 
         when(gameService.validateWord(word, currentLetters)).thenReturn(false);
+        when(gameService.solve(currentLetters)).thenReturn(new SolveResult(null, true));
 
         mockMvc.perform(post("/api/game/validate")
                         .param("word", word)
@@ -108,6 +192,7 @@ public class GameControllerTest {
         String playerName = "Player3";
 
         when(gameService.validateWord("", currentLetters)).thenReturn(false);
+        when(gameService.solve(currentLetters)).thenReturn(new SolveResult(null, true));
 
         mockMvc.perform(post("/api/game/validate")
                         .param("word", "")
@@ -129,7 +214,7 @@ public class GameControllerTest {
         String word = "QUICK";
         String playerName = "Player5";
         String longestWord = "QUIZZES";
-        when(gameService.findLongestWord(currentLetters)).thenReturn(longestWord);
+        when(gameService.solve(currentLetters)).thenReturn(new SolveResult(longestWord, true));
         when(gameService.validateWord(word, currentLetters)).thenReturn(true);
         when(scoreService.saveScore(playerName, currentLetters, word, word.length(), longestWord)).thenReturn(true);
 
@@ -142,4 +227,273 @@ public class GameControllerTest {
                 .andExpect(jsonPath("$.isValid").value(true))
                 .andExpect(jsonPath("$.longestWord").value(longestWord));
     }
+
+    @Test
+    void testGetReadiness_Ready() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        when(gameService.getDictionaryState()).thenReturn(GameService.DictionaryState.READY);
+
+        mockMvc.perform(get("/api/game/ready"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("READY"));
+    }
+
+    @Test
+    void testGetReadiness_Loading() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        when(gameService.getDictionaryState()).thenReturn(GameService.DictionaryState.LOADING);
+
+        mockMvc.perform(get("/api/game/ready"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.state").value("LOADING"));
+    }
+
+    @Test
+    void testValidateWord_DictionaryNotReady() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        doThrow(new DictionaryNotReadyException("loading")).when(gameService).ensureDictionaryReady();
+
+        mockMvc.perform(post("/api/game/validate")
+                        .param("word", "ACE")
+                        .param("currentLetters", "ABCDEF")
+                        .param("playerName", "Player1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "5"));
+    }
+
+    @Test
+    void testValidateBatch() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        when(gameService.findLongestWords(List.of("ABCDEF", "FEDCBA"))).thenReturn(Map.of(
+                "ABCDEF", new SolveResult("FACED", true), "FEDCBA", new SolveResult("FACED", false)));
+        when(gameService.validateWord("ACE", "ABCDEF")).thenReturn(true);
+        when(gameService.validateWord("XYZ", "FEDCBA")).thenReturn(false);
+
+        mockMvc.perform(post("/api/game/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"playerName\":\"Player1\",\"word\":\"ACE\",\"currentLetters\":\"ABCDEF\"},"
+                                + "{\"playerName\":\"Player2\",\"word\":\"XYZ\",\"currentLetters\":\"FEDCBA\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].playerName").value("Player1"))
+                .andExpect(jsonPath("$[0].isValid").value(true))
+                .andExpect(jsonPath("$[0].score").value(3))
+                .andExpect(jsonPath("$[0].longestWord").value("FACED"))
+                .andExpect(jsonPath("$[0].complete").value(true))
+                .andExpect(jsonPath("$[1].isValid").value(false))
+                .andExpect(jsonPath("$[1].score").value(0))
+                .andExpect(jsonPath("$[1].complete").value(false));
+
+        verify(scoreService, times(1)).saveScores(argThat(scores -> scores.size() == 2));
+    }
+
+    @Test
+    void testValidateBatch_OverloadedLetterSetFailsOnlyItsEntries() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        Map<String, SolveResult> longestWords = new HashMap<>();
+        longestWords.put("ABCDEF", new SolveResult("FACED", true));
+        longestWords.put("FEDCBA", null);
+        when(gameService.findLongestWords(List.of("ABCDEF", "FEDCBA"))).thenReturn(longestWords);
+        when(gameService.validateWord("ACE", "ABCDEF")).thenReturn(true);
+
+        mockMvc.perform(post("/api/game/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"playerName\":\"Player1\",\"word\":\"ACE\",\"currentLetters\":\"ABCDEF\"},"
+                                + "{\"playerName\":\"Player2\",\"word\":\"FADE\",\"currentLetters\":\"FEDCBA\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].score").value(3))
+                .andExpect(jsonPath("$[0].complete").value(true))
+                .andExpect(jsonPath("$[1].playerName").value("Player2"))
+                .andExpect(jsonPath("$[1].complete").value(false))
+                .andExpect(jsonPath("$[1].error").exists())
+                .andExpect(jsonPath("$[1].score").doesNotExist());
+
+        verify(scoreService, times(1)).saveScores(argThat(scores -> scores.size() == 1));
+    }
+
+    @Test
+    void testValidateBatch_MissingField() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(post("/api/game/validate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"playerName\":\"Player1\",\"word\":\"ACE\"}]"))
+                .andExpect(status().isBadRequest());
+
+        verify(scoreService, never()).saveScores(any());
+    }
+
+    @Test
+    void testGetSolutions() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        when(gameService.findTopWords("TCAS", 2)).thenReturn(List.of("cast", "act"));
+
+        mockMvc.perform(get("/api/game/solutions")
+                        .param("letters", "TCAS")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("cast"))
+                .andExpect(jsonPath("$[1]").value("act"));
+    }
+
+    @Test
+    void testGetSolutions_TooManyLetters() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(get("/api/game/solutions").param("letters", "ABCDEFGHIJKLMNOPQRSTU"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/game/solutions/stream").param("letters", "ABCDEFGHIJKLMNOPQRSTU"))
+                .andExpect(status().isBadRequest());
+
+        verify(gameService, never()).findTopWords(anyString(), anyInt());
+        verify(gameService, never()).forEachWord(anyString(), any());
+    }
+
+    @Test
+    void testStreamSolutions_Ndjson() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        doAnswer(invocation -> {
+            Predicate<String> visitor = invocation.getArgument(1);
+            visitor.test("cast");
+            visitor.test("act");
+            return null;
+        }).when(gameService).forEachWord(eq("TCAS"), any());
+
+        MvcResult result = mockMvc.perform(get("/api/game/solutions/stream").param("letters", "TCAS"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"word\":\"cast\",\"length\":4}\n{\"word\":\"act\",\"length\":3}\n"));
+    }
+
+    @Test
+    void testStreamSolutions_ServerSentEvents() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+        doAnswer(invocation -> {
+            Predicate<String> visitor = invocation.getArgument(1);
+            visitor.test("cast");
+            return null;
+        }).when(gameService).forEachWord(eq("TCAS"), any());
+
+        MvcResult result = mockMvc.perform(get("/api/game/solutions/stream")
+                        .param("letters", "TCAS")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string("data: {\"word\":\"cast\",\"length\":4}\n\n"));
+    }
+
+    @Test
+    void testValidateWord_SolveOutOfTime() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        String currentLetters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+        when(gameService.solve(currentLetters)).thenReturn(new SolveResult("QUICK", false));
+        when(gameService.validateWord("ACE", currentLetters)).thenReturn(true);
+
+        mockMvc.perform(post("/api/game/validate")
+                        .param("word", "ACE")
+                        .param("currentLetters", currentLetters)
+                        .param("playerName", "Player1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.longestWord").value("QUICK"))
+                .andExpect(jsonPath("$.complete").value(false));
+    }
+
+    @Test
+    void testValidateWord_SolverOverloaded() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        when(gameService.solve("ABCDEF")).thenThrow(new SolverOverloadedException("busy"));
+
+        mockMvc.perform(post("/api/game/validate")
+                        .param("word", "ACE")
+                        .param("currentLetters", "ABCDEF")
+                        .param("playerName", "Player1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        verify(scoreService, never()).saveScore(any(), any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void testGetLetters() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        when(gameService.generateLetters(2, 1)).thenReturn(List.of('A', 'E', 'B'));
+
+        mockMvc.perform(get("/api/game/letters")
+                        .param("vowels", "2")
+                        .param("consonants", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[2]").value("B"));
+    }
+
+    @Test
+    void testGetLetters_Seeded() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        when(gameService.generateLetters(1, 2, 42L)).thenReturn(List.of('E', 'S', 'T'));
+
+        mockMvc.perform(get("/api/game/letters")
+                        .param("vowels", "1")
+                        .param("consonants", "2")
+                        .param("seed", "42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0]").value("E"))
+                .andExpect(jsonPath("$[2]").value("T"));
+    }
+
+    @Test
+    void testGetRound() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController).build();
+
+        Round round = new Round("AEONDCTUW", "countdown", 120, 1);
+        when(roundPool.take()).thenReturn(round);
+        when(roundSessions.open(round)).thenReturn(new RoundSession("round-1", round,
+                Instant.parse("2030-01-01T00:00:30Z"), Instant.parse("2030-01-01T00:05:00Z")));
+
+        mockMvc.perform(get("/api/game/round"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.roundId").value("round-1"))
+                .andExpect(jsonPath("$.deadline").value("2030-01-01T00:00:30Z"))
+                .andExpect(jsonPath("$.letters.length()").value(9))
+                .andExpect(jsonPath("$.letters[0]").value("A"))
+                .andExpect(jsonPath("$.wordCount").value(120))
+                .andExpect(jsonPath("$.longestWordLength").value(9))
+                .andExpect(jsonPath("$.difficulty").value("EASY"))
+                .andExpect(jsonPath("$.longestWord").doesNotExist());
+    }
+
+    @Test
+    void testGetLetters_TooMany() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(gameController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(get("/api/game/letters")
+                        .param("vowels", "10")
+                        .param("consonants", "11"))
+                .andExpect(status().isBadRequest());
+    }
 }
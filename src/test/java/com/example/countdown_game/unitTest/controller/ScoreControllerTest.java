@@ -1,7 +1,12 @@
 package com.example.countdown_game.unitTest.controller;
 
 import com.example.countdown_game.controller.ScoreController;
-import com.example.countdown_game.entity.Score;
+import com.example.countdown_game.dto.PlayerStatsView;
+import com.example.countdown_game.dto.ScorePage;
+import com.example.countdown_game.dto.ScoreView;
+import com.example.countdown_game.exception.GlobalExceptionHandler;
+import com.example.countdown_game.service.LeaderboardService;
+import com.example.countdown_game.service.PlayerStanding;
 import com.example.countdown_game.service.ScoreService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,9 +16,13 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -27,24 +36,27 @@ class ScoreControllerTest {
     @Mock
     private ScoreService scoreService;
 
+    @Mock
+    private LeaderboardService leaderboardService;
+
     private ScoreController scoreController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        scoreController = new ScoreController(scoreService);
+        scoreController = new ScoreController(scoreService, leaderboardService);
         mockMvc = MockMvcBuilders.standaloneSetup(scoreController).build();
     }
 
     @Test
     void testGetScoresByPlayer_ValidPlayer() throws Exception {
         String playerName = "Player1";
-        List<Score> scores = Arrays.asList(
-                new Score("Player1", 50, "ABCDE", "ACE", "BEAD"),
-                new Score("Player1", 30, "FGHIJ", "FIG", "HIGH")
+        List<ScoreView> scores = Arrays.asList(
+                new ScoreView(1L, "Player1", 50, "ABCDE", "ACE", "BEAD", Instant.parse("2030-01-01T00:00:00Z")),
+                new ScoreView(2L, "Player1", 30, "FGHIJ", "FIG", "HIGH", Instant.parse("2030-01-01T00:01:00Z"))
         );
 
-        when(scoreService.getScoresForPlayer(playerName)).thenReturn(scores);
+        when(scoreService.getScoresForPlayer(playerName, null, 100)).thenReturn(new ScorePage(scores, null));
 
         mockMvc.perform(get("/api/scores/endScreen")
                         .param("playerName", playerName)
@@ -54,16 +66,46 @@ class ScoreControllerTest {
                 .andExpect(jsonPath("$[0].scoreValue").value(50))
                 .andExpect(jsonPath("$[0].longestPossibleWord").value("BEAD"))
                 .andExpect(jsonPath("$[1].scoreValue").value(30))
-                .andExpect(jsonPath("$[1].longestPossibleWord").value("HIGH"));
+                .andExpect(jsonPath("$[1].longestPossibleWord").value("HIGH"))
+                .andExpect(jsonPath("$[0].id").doesNotExist())
+                .andExpect(header().doesNotExist(ScoreController.NEXT_CURSOR_HEADER));
+
+        verify(scoreService, times(1)).getScoresForPlayer(playerName, null, 100);
+    }
+
+    @Test
+    void testGetScoresByPlayer_NextPage() throws Exception {
+        ScoreView score = new ScoreView(7L, "Player1", 3, "ABCDE", "BED", "BEAD", Instant.parse("2030-01-01T00:00:00Z"));
+        when(scoreService.getScoresForPlayer("Player1", "abc", 1)).thenReturn(new ScorePage(List.of(score), "def"));
+
+        mockMvc.perform(get("/api/scores/endScreen")
+                        .param("playerName", "Player1")
+                        .param("cursor", "abc")
+                        .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().string(ScoreController.NEXT_CURSOR_HEADER, "def"));
+    }
 
-        verify(scoreService, times(1)).getScoresForPlayer(playerName);
+    @Test
+    void testGetScoresByPlayer_InvalidLimit() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(scoreController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(get("/api/scores/endScreen")
+                        .param("playerName", "Player1")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(scoreService);
     }
 
     @Test
     void testGetScoresByPlayer_PlayerNotFound() throws Exception {
         String playerName = "NonExistentPlayer";
 
-        when(scoreService.getScoresForPlayer(playerName)).thenReturn(Collections.emptyList());
+        when(scoreService.getScoresForPlayer(playerName, null, 100)).thenReturn(new ScorePage(Collections.emptyList(), null));
 
         mockMvc.perform(get("/api/scores/endScreen")
                         .param("playerName", playerName)
@@ -71,14 +113,14 @@ class ScoreControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0));
 
-        verify(scoreService, times(1)).getScoresForPlayer(playerName);
+        verify(scoreService, times(1)).getScoresForPlayer(playerName, null, 100);
     }
 
     @Test
     void testGetScoresByPlayer_ExceptionThrown() throws Exception {
         String playerName = "Player1";
 
-        when(scoreService.getScoresForPlayer(playerName)).thenThrow(new RuntimeException("Database error"));
+        when(scoreService.getScoresForPlayer(playerName, null, 100)).thenThrow(new RuntimeException("Database error"));
 
         mockMvc.perform(get("/api/scores/endScreen")
                         .param("playerName", playerName)
@@ -86,7 +128,73 @@ class ScoreControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.length()").value(0));
 
-        verify(scoreService, times(1)).getScoresForPlayer(playerName);
+        verify(scoreService, times(1)).getScoresForPlayer(playerName, null, 100);
+    }
+
+    @Test
+    void testGetPlayerStats() throws Exception {
+        PlayerStatsView stats = new PlayerStatsView("Player1", 4, 1, 0.25, 2.5, new TreeMap<>(Map.of(3, 2L, 5, 1L)));
+        when(scoreService.getPlayerStats("Player1")).thenReturn(Optional.of(stats));
+        when(scoreService.getPlayerStats("Nobody")).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/scores/playerStats").param("playerName", "Player1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.gamesPlayed").value(4))
+                .andExpect(jsonPath("$.hitRate").value(0.25))
+                .andExpect(jsonPath("$.averageScore").value(2.5))
+                .andExpect(jsonPath("$.lengthDistribution.3").value(2));
+        mockMvc.perform(get("/api/scores/playerStats").param("playerName", "Nobody"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetLeaderboard() throws Exception {
+        when(leaderboardService.top(LeaderboardService.Metric.BEST_WORD, 2)).thenReturn(List.of(
+                new PlayerStanding("Player1", 12, 3, 2, 9, "BEADS"),
+                new PlayerStanding("Player2", 20, 5, 5, 20, "BEAD")));
+
+        mockMvc.perform(get("/api/scores/leaderboard")
+                        .param("by", "best-word")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].playerName").value("Player1"))
+                .andExpect(jsonPath("$[0].bestWord").value("BEADS"))
+                .andExpect(jsonPath("$[1].averageWordLength").value(4.0));
+    }
+
+    @Test
+    void testGetLeaderboard_InvalidMetric() throws Exception {
+        mockMvc = MockMvcBuilders.standaloneSetup(scoreController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+
+        mockMvc.perform(get("/api/scores/leaderboard").param("by", "luck"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/scores/leaderboard").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(leaderboardService);
+    }
+
+    @Test
+    void testGetStanding() throws Exception {
+        when(leaderboardService.getStanding("Player1")).thenReturn(new PlayerStanding("Player1", 12, 3, 2, 9, "BEADS"));
+
+        mockMvc.perform(get("/api/scores/leaderboard/player").param("playerName", "Player1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalScore").value(12));
+        mockMvc.perform(get("/api/scores/leaderboard/player").param("playerName", "Nobody"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void testGetCacheStats() throws Exception {
+        when(scoreService.getCacheStats()).thenReturn(Map.of("hits", 3L, "misses", 1L));
+
+        mockMvc.perform(get("/api/scores/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(3))
+                .andExpect(jsonPath("$.misses").value(1));
     }
 
     @Test
@@ -1,13 +1,34 @@
 package com.example.countdown_game.unitTest.service;
 
+import com.example.countdown_game.exception.DictionaryNotReadyException;
+import com.example.countdown_game.exception.SolverOverloadedException;
 import com.example.countdown_game.service.GameService;
+import com.example.countdown_game.service.Round;
+import com.example.countdown_game.utils.DictionaryFormat;
+import com.example.countdown_game.utils.SignatureWordSolver;
+import com.example.countdown_game.utils.SolveResult;
+import com.example.countdown_game.utils.SolverEngine;
+import com.example.countdown_game.utils.WordDictionary;
+import com.example.countdown_game.utils.WordSolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
 import org.springframework.web.client.RestTemplate;
 
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -50,6 +71,28 @@ public class GameServiceTest {
 
     }
 
+    @Test
+    void testGenerateLetters() {
+        List<Character> letters = gameService.generateLetters(3, 6);
+
+        assertEquals(9, letters.size());
+        for (int i = 0; i < letters.size(); i++) {
+            assertEquals(i < 3, "AEIOU".indexOf(letters.get(i)) >= 0, "Vowels should come before consonants.");
+        }
+    }
+
+    @Test
+    void testGenerateLetters_SameSeedSameRound() {
+        List<Character> first = gameService.generateLetters(4, 5, 1234L);
+        List<Character> second = gameService.generateLetters(4, 5, 1234L);
+
+        assertEquals(9, first.size());
+        assertEquals(first, second, "The same seed should deal the same round.");
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(i < 4, "AEIOU".indexOf(first.get(i)) >= 0, "Vowels should come before consonants.");
+        }
+    }
+
     @Test
     void testIsValidWord_Valid() {
         String validWord = "apple";
@@ -89,4 +132,298 @@ public class GameServiceTest {
         boolean result = gameService.validateWord(word, letters);
         assertFalse(result);
     }
+
+    @Test
+    void testCheckWord_Results() {
+        assertEquals(GameService.ValidationResult.VALID, gameService.checkWord("CAT", "tcaxyz"));
+        assertEquals(GameService.ValidationResult.LETTERS_UNAVAILABLE, gameService.checkWord("CATS", "CAT"));
+        assertEquals(GameService.ValidationResult.INVALID_INPUT, gameService.checkWord("C@T", "CAT"));
+        assertEquals(GameService.ValidationResult.INVALID_INPUT, gameService.checkWord(null, "CAT"));
+        assertEquals(GameService.ValidationResult.INVALID_INPUT, gameService.checkWord("", "CAT"));
+        assertEquals(GameService.ValidationResult.NOT_IN_DICTIONARY, gameService.checkWord("applz", "APPLZ"));
+    }
+
+    @Test
+    void testEnsureDictionaryReady_WhileLoading() {
+        assertEquals(GameService.DictionaryState.LOADING, gameService.getDictionaryState());
+        assertThrows(DictionaryNotReadyException.class, () -> gameService.ensureDictionaryReady());
+    }
+
+    @Test
+    void testReloadDictionary_SwapsSnapshot() throws Exception {
+        GameService service = new GameService();
+        service.initializeDictionary();
+        assertEquals(1L, service.getDictionaryInfo().get("version"));
+
+        assertEquals(2L, service.reloadDictionary().get(1, TimeUnit.MINUTES).getVersion());
+        assertEquals(2L, service.getDictionaryInfo().get("version"));
+        assertEquals("countdown", service.findLongestWord("NWODTNUOC"));
+    }
+
+    @Test
+    void testFindLongestWords_SolvesEachLetterSetOnce() throws Exception {
+        BlockingWordSolver[] solver = new BlockingWordSolver[1];
+        GameService service = newService(60_000, 2, 4,
+                dictionary -> solver[0] = new BlockingWordSolver(dictionary, new CountDownLatch(0), Duration.ZERO));
+        service.initializeDictionary();
+
+        Map<String, SolveResult> result = service.findLongestWords(List.of("NWODTNUOC", "countdown", "NWODTNUOC"));
+
+        assertEquals(2, result.size());
+        assertEquals("countdown", result.get("NWODTNUOC").getWord());
+        assertTrue(result.get("countdown").isComplete());
+        assertEquals(1, solver[0].solves.get());
+
+        // Complete results are cached, so solving the batch again does not reach the solver
+        service.findLongestWords(List.of("countdown"));
+        assertEquals(1, solver[0].solves.get());
+    }
+
+    @Test
+    void testFindLongestWords_ReportsOverloadedLetterSetsPerEntry() throws Exception {
+        // One solver thread without a queue: the second letter set is rejected while the first runs
+        GameService service = newService(60_000, 1, 0,
+                dictionary -> new BlockingWordSolver(dictionary, new CountDownLatch(1), Duration.ofMillis(200)));
+        service.initializeDictionary();
+
+        Map<String, SolveResult> result = service.findLongestWords(List.of("NWODTNUOC", "TCAS", "countdown"));
+
+        assertEquals("countdown", result.get("NWODTNUOC").getWord());
+        assertEquals("countdown", result.get("countdown").getWord());
+        assertTrue(result.containsKey("TCAS"));
+        assertNull(result.get("TCAS"));
+        assertEquals(1L, ((Map<?, ?>) service.getSolverStats().get("pool")).get("rejected"));
+    }
+
+    @Test
+    void testFindTopWords_StopsAtLimit() {
+        doAnswer(invocation -> {
+            Predicate<String> visitor = invocation.getArgument(1);
+            for (String word : List.of("cast", "act", "cat", "at")) {
+                if (!visitor.test(word)) {
+                    break;
+                }
+            }
+            return null;
+        }).when(gameService).forEachWord(eq("TCAS"), any());
+
+        assertEquals(List.of("cast", "act"), gameService.findTopWords("TCAS", 2));
+        assertEquals(List.of(), gameService.findTopWords("TCAS", 0));
+    }
+
+    @Test
+    void testDescribeRound_PrimesSolverCache() throws Exception {
+        GameService service = new GameService();
+        service.initializeDictionary();
+
+        Round round = service.describeRound("NWODTNUOC");
+        service.rememberRound(round);
+
+        assertEquals("countdown", round.getLongestWord());
+        assertEquals(Round.Difficulty.EASY, round.getDifficulty());
+        assertEquals(1L, round.getDictionaryVersion());
+        assertTrue(round.getWordCount() > 1);
+        assertEquals("countdown", service.findLongestWord("countdown"));
+        assertEquals(1L, ((Map<?, ?>) service.getSolverStats().get("cache")).get("hits"));
+    }
+
+    @Test
+    void testSolve_ReturnsIncompleteResultAfterBudget() {
+        GameService service = newService(1, 1, 4);
+        service.initializeDictionary();
+
+        SolveResult result = service.solve("ABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZ");
+
+        assertFalse(result.isComplete());
+        assertEquals(1L, service.getSolverStats().get("deadlineExceeded"));
+    }
+
+    @Test
+    void testDescribeRoundWithinBudget_GivesUpAfterBudget() {
+        GameService service = newService(1, 1, 4);
+        service.initializeDictionary();
+
+        assertNull(service.describeRoundWithinBudget("ABCDEFGHIJKLMNOPQRSTUVWXYZABCDEFGHIJKLMNOPQRSTUVWXYZ"));
+        assertEquals(1L, service.getSolverStats().get("deadlineExceeded"));
+    }
+
+    @Test
+    void testForEachWord_CallsVisitorOnCallingThread() {
+        GameService service = new GameService();
+        service.initializeDictionary();
+        List<Thread> threads = new ArrayList<>();
+
+        service.forEachWord("TCAS", word -> {
+            threads.add(Thread.currentThread());
+            return false;
+        });
+
+        assertEquals(4, service.findTopWords("TCAS", 1).get(0).length());
+        assertEquals(List.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    void testForEachWord_SlowVisitorDoesNotHoldSolverThread() throws Exception {
+        GameService service = newService(60_000, 1, 4);
+        service.initializeDictionary();
+        CountDownLatch visiting = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // A client that stops reading after the first word
+        Thread slowClient = new Thread(() -> service.forEachWord("TCAS", word -> {
+            visiting.countDown();
+            try {
+                release.await(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }));
+        slowClient.start();
+        assertTrue(visiting.await(1, TimeUnit.MINUTES));
+
+        SolveResult result = service.solve("countdown"); // Needs the only solver thread
+        release.countDown();
+        slowClient.join();
+
+        assertTrue(result.isComplete());
+        assertEquals("countdown", result.getWord());
+    }
+
+    @Test
+    void testSolve_StopsWaitingAfterBudget() {
+        GameService service = newService(50, 1, 4,
+                dictionary -> new BlockingWordSolver(dictionary, new CountDownLatch(1), Duration.ofSeconds(2)));
+        service.initializeDictionary();
+
+        long start = System.nanoTime();
+        SolveResult result = service.solve("countdown");
+        long waitedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(result.isComplete());
+        assertNull(result.getWord());
+        assertTrue(waitedMs < 1_000, "waited " + waitedMs + " ms");
+        assertEquals(1L, service.getSolverStats().get("deadlineExceeded"));
+    }
+
+    @Test
+    void testSolve_ConcurrentIdenticalSolvesRunOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingWordSolver[] solver = new BlockingWordSolver[1];
+        GameService service = newService(60_000, 4, 4,
+                dictionary -> solver[0] = new BlockingWordSolver(dictionary, release, Duration.ofMinutes(1)));
+        service.initializeDictionary();
+
+        int callers = 8;
+        ExecutorService clients = Executors.newFixedThreadPool(callers);
+        List<Future<SolveResult>> solves = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            String letters = i % 2 == 0 ? "NWODTNUOC" : "countdown";
+            solves.add(clients.submit(() -> service.solve(letters)));
+        }
+        // The first solve is held until every other caller is waiting for it
+        long giveUp = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        while ((long) service.getSolverStats().get("coalesced") < callers - 1 && System.nanoTime() < giveUp) {
+            Thread.sleep(10);
+        }
+        release.countDown();
+
+        for (Future<SolveResult> solve : solves) {
+            SolveResult result = solve.get(1, TimeUnit.MINUTES);
+            assertTrue(result.isComplete());
+            assertEquals("countdown", result.getWord());
+        }
+        clients.shutdown();
+
+        assertEquals(1, solver[0].solves.get());
+        assertEquals((long) callers - 1, service.getSolverStats().get("coalesced"));
+        assertEquals(0, service.getSolverStats().get("inFlight"));
+    }
+
+    @Test
+    void testSolve_RejectsWhenSolverPoolIsFull() throws Exception {
+        GameService service = newService(500, 1, 1);
+        service.initializeDictionary();
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+        // Distinct long rounds each keep the only solver thread busy until the time budget runs out
+        ExecutorService clients = Executors.newFixedThreadPool(6);
+        List<Future<SolveResult>> solves = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String letters = alphabet + alphabet.substring(i) + alphabet;
+            solves.add(clients.submit(() -> service.solve(letters)));
+        }
+        int rejected = 0;
+        for (Future<SolveResult> solve : solves) {
+            try {
+                solve.get(1, TimeUnit.MINUTES);
+            } catch (ExecutionException e) {
+                assertInstanceOf(SolverOverloadedException.class, e.getCause());
+                rejected++;
+            }
+        }
+        clients.shutdown();
+        service.shutdownSolverExecutor();
+
+        assertTrue(rejected > 0, "Solves beyond one running and one queued should be rejected.");
+        Map<?, ?> pool = (Map<?, ?>) service.getSolverStats().get("pool");
+        assertEquals((long) rejected, pool.get("rejected"));
+        assertEquals(1, pool.get("queueCapacity"));
+    }
+
+    /**
+     * A solver that ignores deadlines and waits for a latch before each solve, like an engine
+     * that cannot stop early.
+     */
+    /**
+     * Creates a service that solves with the signature engine and loads the bundled dictionary
+     * without warming up.
+     */
+    private static GameService newService(long solveTimeBudgetMs, int solverThreads, int solverQueueCapacity) {
+        return newService(solveTimeBudgetMs, solverThreads, solverQueueCapacity, null);
+    }
+
+    /**
+     * Creates a service like {@link #newService(long, int, int)} whose dictionary snapshots are
+     * solved by the solvers the given factory builds, or by the signature engine when it is null.
+     */
+    private static GameService newService(long solveTimeBudgetMs, int solverThreads, int solverQueueCapacity,
+                                          Function<WordDictionary, WordSolver> solvers) {
+        return new GameService(SolverEngine.SIGNATURE, 100, DictionaryFormat.MAPPED, "", 0, solveTimeBudgetMs,
+                solverThreads, solverQueueCapacity, GameService.DEFAULT_VOWEL_WEIGHTS, GameService.DEFAULT_CONSONANT_WEIGHTS) {
+            @Override
+            protected WordSolver createSolver(WordDictionary dictionary) {
+                return solvers == null ? super.createSolver(dictionary) : solvers.apply(dictionary);
+            }
+        };
+    }
+
+    private static final class BlockingWordSolver implements WordSolver {
+        private final SignatureWordSolver delegate;
+        private final CountDownLatch release;
+        private final Duration maxWait;
+        private final AtomicInteger solves = new AtomicInteger();
+
+        private BlockingWordSolver(WordDictionary dictionary, CountDownLatch release, Duration maxWait) {
+            this.delegate = new SignatureWordSolver(dictionary);
+            this.release = release;
+            this.maxWait = maxWait;
+        }
+
+        @Override
+        public String findLongestWord(String letters) {
+            solves.incrementAndGet();
+            try {
+                release.await(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return delegate.findLongestWord(letters);
+        }
+
+        @Override
+        public void forEachWord(String letters, Predicate<String> visitor) {
+            delegate.forEachWord(letters, visitor);
+        }
+    }
 }
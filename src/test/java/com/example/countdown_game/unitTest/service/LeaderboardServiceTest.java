@@ -0,0 +1,141 @@
+package com.example.countdown_game.unitTest.service;
+
+import com.example.countdown_game.dto.ScoreView;
+import com.example.countdown_game.repository.ScoreRepository;
+import com.example.countdown_game.service.LeaderboardService;
+import com.example.countdown_game.service.LeaderboardService.Metric;
+import com.example.countdown_game.service.PlayerStanding;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class LeaderboardServiceTest {
+
+    @Mock
+    private ScoreRepository scoreRepository;
+
+    private LeaderboardService leaderboardService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        leaderboardService = new LeaderboardService(scoreRepository);
+    }
+
+    @Test
+    void testTop_RanksByEachMetric() {
+        leaderboardService.record("alice", "BEADS", 5);
+        leaderboardService.record("alice", "AT", 2);
+        leaderboardService.record("bob", "BEAD", 4);
+        leaderboardService.record("bob", "BEAD", 4);
+        leaderboardService.record("carol", "XYZZY", 0); // Invalid, counts as an answer only
+
+        assertEquals(List.of("bob", "alice", "carol"), names(leaderboardService.top(Metric.TOTAL_SCORE, 10)));
+        assertEquals(List.of("alice", "bob", "carol"), names(leaderboardService.top(Metric.BEST_WORD, 10)));
+        assertEquals(List.of("bob", "alice", "carol"), names(leaderboardService.top(Metric.AVERAGE_WORD_LENGTH, 10)));
+        assertEquals(List.of("bob"), names(leaderboardService.top(Metric.TOTAL_SCORE, 1)));
+    }
+
+    @Test
+    void testRecord_MovesPlayerWithoutDuplicates() {
+        leaderboardService.record("alice", "AT", 2);
+        leaderboardService.record("bob", "BED", 3);
+        leaderboardService.record("alice", "BEADS", 5);
+
+        List<PlayerStanding> top = leaderboardService.top(Metric.TOTAL_SCORE, 10);
+        assertEquals(List.of("alice", "bob"), names(top));
+        assertEquals(7, top.get(0).getTotalScore());
+        assertEquals(2, top.get(0).getAnswers());
+        assertEquals("BEADS", top.get(0).getBestWord());
+        assertEquals(3.5, top.get(0).getAverageWordLength());
+    }
+
+    @Test
+    void testTop_TiesOrderedByName() {
+        leaderboardService.record("zoe", "BED", 3);
+        leaderboardService.record("adam", "BAD", 3);
+
+        assertEquals(List.of("adam", "zoe"), names(leaderboardService.top(Metric.TOTAL_SCORE, 10)));
+    }
+
+    @Test
+    void testGetStanding() {
+        leaderboardService.record("alice", "BED", 3);
+
+        assertEquals(3, leaderboardService.getStanding("alice").getTotalScore());
+        assertNull(leaderboardService.getStanding("bob"));
+    }
+
+    @Test
+    void testRecord_Concurrent() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8_000; i++) {
+            String player = "player" + (i % 16);
+            executor.execute(() -> leaderboardService.record(player, "BED", 3));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        List<PlayerStanding> top = leaderboardService.top(Metric.TOTAL_SCORE, 100);
+        assertEquals(16, top.size()); // One entry per player
+        for (PlayerStanding standing : top) {
+            assertEquals(1500, standing.getTotalScore());
+        }
+    }
+
+    @Test
+    void testRebuild_ReadsScoresInBatches() {
+        Instant now = Instant.parse("2030-01-01T00:00:00Z");
+        List<ScoreView> firstBatch = new ArrayList<>();
+        for (long id = 1; id <= 1000; id++) {
+            firstBatch.add(new ScoreView(id, "alice", 1, "ABCDE", "A", "BEAD", now));
+        }
+        when(scoreRepository.findBatchAfter(anyLong(), any(Pageable.class))).thenReturn(firstBatch,
+                List.of(new ScoreView(1001L, "bob", 4, "ABCDE", "BEAD", "BEAD", now)));
+        leaderboardService.record("stale", "BED", 3);
+
+        leaderboardService.rebuild();
+
+        assertEquals(List.of("alice", "bob"), names(leaderboardService.top(Metric.TOTAL_SCORE, 10)));
+        assertEquals(1000, leaderboardService.getStanding("alice").getTotalScore());
+        verify(scoreRepository).findBatchAfter(eq(1000L), any(Pageable.class));
+        verify(scoreRepository, times(2)).findBatchAfter(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void testMetricParse() {
+        assertEquals(Metric.AVERAGE_WORD_LENGTH, Metric.parse("average-word-length"));
+        assertEquals(Metric.BEST_WORD, Metric.parse(" Best_Word "));
+        assertThrows(IllegalArgumentException.class, () -> Metric.parse("luck"));
+    }
+
+    @Test
+    void testClear() {
+        leaderboardService.record("alice", "BED", 3);
+
+        leaderboardService.clear();
+
+        assertEquals(Collections.emptyList(), leaderboardService.top(Metric.TOTAL_SCORE, 10));
+        assertNull(leaderboardService.getStanding("alice"));
+    }
+
+    private static List<String> names(List<PlayerStanding> standings) {
+        return standings.stream().map(PlayerStanding::getPlayerName).toList();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.countdown_game.unitTest.service;
+
+import com.example.countdown_game.dto.PlayerStatsView;
+import com.example.countdown_game.dto.ScoreView;
+import com.example.countdown_game.entity.PlayerStats;
+import com.example.countdown_game.entity.Score;
+import com.example.countdown_game.repository.PlayerStatsRepository;
+import com.example.countdown_game.repository.ScoreRepository;
+import com.example.countdown_game.service.PlayerStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class PlayerStatsServiceTest {
+
+    @Mock
+    private PlayerStatsRepository playerStatsRepository;
+
+    @Mock
+    private ScoreRepository scoreRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PlayerStatsService playerStatsService;
+
+    /**
+     * A stand-in for the rollup table.
+     */
+    private final Map<String, PlayerStats> table = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        playerStatsService = new PlayerStatsService(playerStatsRepository, scoreRepository, transactionManager);
+        when(playerStatsRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<PlayerStats> found = new ArrayList<>();
+            for (Object name : (Iterable<?>) invocation.getArgument(0)) {
+                if (table.containsKey(name)) {
+                    found.add(table.get(name));
+                }
+            }
+            return found;
+        });
+        when(playerStatsRepository.saveAll(anyIterable())).thenAnswer(invocation -> {
+            List<PlayerStats> saved = new ArrayList<>();
+            for (Object stats : (Iterable<?>) invocation.getArgument(0)) {
+                table.put(((PlayerStats) stats).getPlayerName(), (PlayerStats) stats);
+                saved.add((PlayerStats) stats);
+            }
+            return saved;
+        });
+        when(playerStatsRepository.findById(any())).thenAnswer(invocation -> Optional.ofNullable(table.get(invocation.getArgument(0))));
+    }
+
+    @Test
+    void testApply_RollsUpScores() {
+        playerStatsService.apply(List.of(
+                new Score("alice", 5, "BEADSXYZT", "BEADS", "BEADS"),
+                new Score("alice", 3, "BEADSXYZT", "BED", "BEADS"),
+                new Score("bob", 3, "BEADSXYZT", "BED", "BEADS")));
+        playerStatsService.apply(List.of(
+                new Score("alice", 0, "BEADSXYZT", "XYZZY", "BEADS"),
+                new Score("alice", 3, "BEADSXYZT", "SAD", "BEADS")));
+
+        PlayerStatsView alice = playerStatsService.getStats("alice").orElseThrow();
+        assertEquals(4, alice.getGamesPlayed());
+        assertEquals(1, alice.getHits());
+        assertEquals(0.25, alice.getHitRate());
+        assertEquals(2.75, alice.getAverageScore());
+        assertEquals(Map.of(3, 2L, 5, 1L), alice.getLengthDistribution()); // The invalid word is not counted
+        assertEquals(List.of(3, 5), List.copyOf(alice.getLengthDistribution().keySet()));
+        assertEquals(1, playerStatsService.getStats("bob").orElseThrow().getGamesPlayed());
+        assertTrue(playerStatsService.getStats("carol").isEmpty());
+        verify(playerStatsRepository, times(2)).saveAll(anyIterable()); // One write per batch
+    }
+
+    @Test
+    void testApply_RoundWithoutLongestWordIsNoHit() {
+        playerStatsService.apply(List.of(
+                new Score("alice", 5, "BEADSXYZT", "BEADS", null),
+                new Score("alice", 3, "BEADSXYZT", "BED", "")));
+
+        PlayerStatsView alice = playerStatsService.getStats("alice").orElseThrow();
+        assertEquals(2, alice.getGamesPlayed());
+        assertEquals(0, alice.getHits());
+        assertEquals(Map.of(3, 1L, 5, 1L), alice.getLengthDistribution());
+    }
+
+    @Test
+    void testApply_EmptyBatch() {
+        playerStatsService.apply(List.of());
+
+        verifyNoInteractions(playerStatsRepository, transactionManager);
+    }
+
+    @Test
+    void testBackfill_FromScoresWhenRollupsAreEmpty() {
+        when(playerStatsRepository.count()).thenReturn(0L);
+        when(scoreRepository.count()).thenReturn(2L);
+        Instant now = Instant.parse("2030-01-01T00:00:00Z");
+        when(scoreRepository.findBatchAfter(anyLong(), any(Pageable.class))).thenReturn(List.of(
+                new ScoreView(1L, "alice", 4, "BEADSXYZT", "BEAD", "BEADS", now),
+                new ScoreView(2L, "alice", 5, "BEADSXYZT", "BEADS", "BEADS", now),
+                new ScoreView(3L, "alice", 6, "BEADSXYZT", "BASTED", "", now)));
+
+        playerStatsService.backfill();
+
+        PlayerStatsView alice = playerStatsService.getStats("alice").orElseThrow();
+        assertEquals(3, alice.getGamesPlayed());
+        assertEquals(1, alice.getHits()); // The round stored without a longest word is no hit
+        assertEquals(5.0, alice.getAverageScore());
+    }
+
+    @Test
+    void testBackfill_SkippedWhenRollupsExist() {
+        when(playerStatsRepository.count()).thenReturn(3L);
+
+        playerStatsService.backfill();
+
+        verify(scoreRepository, never()).findBatchAfter(anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    void testClear() {
+        playerStatsService.clear();
+
+        verify(playerStatsRepository, times(1)).deleteAll();
+    }
+}
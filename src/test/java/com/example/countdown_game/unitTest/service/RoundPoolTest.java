@@ -0,0 +1,97 @@
+package com.example.countdown_game.unitTest.service;
+
+import com.example.countdown_game.exception.SolverOverloadedException;
+import com.example.countdown_game.service.GameService;
+import com.example.countdown_game.service.Round;
+import com.example.countdown_game.service.RoundPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoundPoolTest {
+
+    @Mock
+    private GameService gameService;
+
+    @Test
+    void testTake_ServesPreSolvedRound() throws Exception {
+        when(gameService.getDictionaryState()).thenReturn(GameService.DictionaryState.READY);
+        when(gameService.getDictionaryVersion()).thenReturn(1L);
+        when(gameService.generateLetters(3, 6)).thenReturn(List.of('A', 'E', 'I', 'S', 'T', 'R', 'N', 'L', 'D'));
+        when(gameService.describeRound("AEISTRNLD")).thenReturn(new Round("AEISTRNLD", "dilantres", 300, 1));
+        RoundPool pool = new RoundPool(gameService, 4, "", 3, 6);
+
+        pool.start();
+        try {
+            long waitUntil = System.nanoTime() + 10_000_000_000L;
+            while ((int) pool.getStats().get("size") < 4 && System.nanoTime() < waitUntil) {
+                Thread.sleep(10);
+            }
+            Round round = pool.take();
+
+            assertEquals("AEISTRNLD", round.getLetters());
+            assertEquals(1L, pool.getStats().get("served"));
+            assertEquals(0L, pool.getStats().get("misses"));
+            verify(gameService).rememberRound(round);
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    void testTake_SolvesOnDemandWhenEmpty() {
+        when(gameService.getDictionaryVersion()).thenReturn(1L);
+        when(gameService.generateLetters(3, 6)).thenReturn(List.of('A', 'E', 'I', 'S', 'T', 'R', 'N', 'L', 'D'));
+        when(gameService.describeRoundWithinBudget("AEISTRNLD")).thenReturn(new Round("AEISTRNLD", "tan", 3, 1));
+        RoundPool pool = new RoundPool(gameService, 0, "hard", 3, 6);
+
+        Round round = pool.take();
+
+        assertEquals("tan", round.getLongestWord());
+        Map<String, Object> stats = pool.getStats();
+        assertEquals(1L, stats.get("misses"));
+        assertEquals(1L, stats.get("fallbacks"));
+        assertEquals(0L, stats.get("served"));
+        assertEquals(0L, stats.get("produced"));
+        assertEquals(0L, stats.get("discarded"));
+        verify(gameService).rememberRound(round);
+        verify(gameService, never()).describeRound(anyString());
+    }
+
+    @Test
+    void testTake_RejectsWhenFallbackRunsOutOfTime() {
+        when(gameService.generateLetters(3, 6)).thenReturn(List.of('A', 'E', 'I', 'S', 'T', 'R', 'N', 'L', 'D'));
+        when(gameService.describeRoundWithinBudget("AEISTRNLD")).thenReturn(null);
+        RoundPool pool = new RoundPool(gameService, 0, "", 3, 6);
+
+        assertThrows(SolverOverloadedException.class, pool::take);
+        assertEquals(1L, pool.getStats().get("fallbackTimeouts"));
+        assertEquals(0L, pool.getStats().get("fallbacks"));
+        verify(gameService, times(1)).describeRoundWithinBudget(anyString());
+        verify(gameService, never()).rememberRound(any());
+    }
+
+    @Test
+    void testProduceRound_DiscardsOtherDifficulties() {
+        when(gameService.generateLetters(3, 6)).thenReturn(List.of('A', 'E', 'I', 'S', 'T', 'R', 'N', 'L', 'D'));
+        when(gameService.describeRound(anyString()))
+                .thenReturn(new Round("AEISTRNLD", "dilantres", 300, 1))
+                .thenReturn(new Round("AEISTRNLD", "tan", 3, 1));
+        RoundPool pool = new RoundPool(gameService, 4, "hard", 3, 6);
+
+        assertNull(pool.produceRound());
+        assertEquals(Round.Difficulty.HARD, pool.produceRound().getDifficulty());
+        assertEquals(1L, pool.getStats().get("discarded"));
+        verify(gameService, never()).rememberRound(any());
+    }
+}
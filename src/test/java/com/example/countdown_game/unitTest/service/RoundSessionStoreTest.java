@@ -0,0 +1,109 @@
+package com.example.countdown_game.unitTest.service;
+
+import com.example.countdown_game.exception.RoundClosedException;
+import com.example.countdown_game.exception.RoundNotFoundException;
+import com.example.countdown_game.service.Round;
+import com.example.countdown_game.service.RoundSession;
+import com.example.countdown_game.service.RoundSessionStore;
+import com.example.countdown_game.utils.HashedWheelTimer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoundSessionStoreTest {
+
+    private static final Instant START = Instant.parse("2030-01-01T00:00:00Z");
+
+    private final Round round = new Round("AEONDCTUW", "countdown", 120, 1);
+
+    private final HashedWheelTimer timer = new HashedWheelTimer("test-round-timer", Duration.ofMillis(5), 64);
+
+    @AfterEach
+    void tearDown() {
+        timer.close();
+    }
+
+    @Test
+    void testOpen_SetsDeadlineAndExpiry() {
+        RoundSessionStore store = new RoundSessionStore(Duration.ofSeconds(30), Duration.ofSeconds(2),
+                Clock.fixed(START, ZoneOffset.UTC), timer);
+
+        RoundSession session = store.open(round);
+
+        assertSame(session, store.get(session.getId()));
+        assertEquals(START.plusSeconds(30), session.getDeadline());
+        assertEquals(START.plusSeconds(32), session.getExpiresAt());
+        assertEquals(1, store.getStats().get("active"));
+        assertEquals(1L, store.getStats().get("pendingTimers"));
+    }
+
+    @Test
+    void testGet_RejectsLateSubmission() {
+        MutableClock clock = new MutableClock(START);
+        RoundSessionStore store = new RoundSessionStore(Duration.ofSeconds(30), Duration.ofSeconds(2), clock, timer);
+        String id = store.open(round).getId();
+
+        clock.now = START.plusSeconds(31);
+        assertNotNull(store.get(id), "Submissions within the grace period are accepted.");
+
+        clock.now = START.plusSeconds(32);
+        assertThrows(RoundClosedException.class, () -> store.get(id));
+        assertEquals(1L, store.getStats().get("lateSubmissions"));
+    }
+
+    @Test
+    void testGet_UnknownId() {
+        RoundSessionStore store = new RoundSessionStore(Duration.ofSeconds(30), Duration.ofSeconds(2), Clock.systemUTC(), timer);
+
+        assertThrows(RoundNotFoundException.class, () -> store.get("missing"));
+    }
+
+    @Test
+    void testTimer_ClosesRoundAndReleasesIt() throws Exception {
+        RoundSessionStore store = new RoundSessionStore(Duration.ofMillis(50), Duration.ZERO, Clock.systemUTC(), timer);
+        String id = store.open(round).getId();
+
+        long waitUntil = System.nanoTime() + 5_000_000_000L;
+        while ((int) store.getStats().get("active") > 0 && System.nanoTime() < waitUntil) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(0, store.getStats().get("active"));
+        assertEquals(1L, store.getStats().get("closed"));
+        assertThrows(RoundClosedException.class, () -> store.get(id));
+        assertEquals(1L, store.getStats().get("lateSubmissions"));
+    }
+
+    /**
+     * A clock the test can move forward.
+     */
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
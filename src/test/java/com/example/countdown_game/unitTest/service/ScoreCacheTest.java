@@ -0,0 +1,86 @@
+package com.example.countdown_game.unitTest.service;
+
+import com.example.countdown_game.dto.ScorePage;
+import com.example.countdown_game.dto.ScoreView;
+import com.example.countdown_game.service.ScoreCache;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ScoreCacheTest {
+
+    private static ScorePage page(String playerName) {
+        return new ScorePage(List.of(new ScoreView(1L, playerName, 3, "ABCDE", "BED", "BEAD",
+                Instant.parse("2030-01-01T00:00:00Z"))), null);
+    }
+
+    @Test
+    void testGet_ReadThrough() {
+        ScoreCache cache = new ScoreCache(100);
+        ScorePage page = page("alice");
+
+        assertNull(cache.get("alice", null, 10));
+        cache.put("alice", null, 10, cache.version("alice"), page);
+
+        assertSame(page, cache.get("alice", null, 10));
+        assertNull(cache.get("alice", "cursor", 10)); // Other pages are cached separately
+        assertNull(cache.get("alice", null, 20));
+
+        Map<String, Object> stats = cache.getStats();
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(3L, stats.get("misses"));
+        assertEquals(1, stats.get("size"));
+    }
+
+    @Test
+    void testInvalidate_DropsOnlyThatPlayersPages() {
+        ScoreCache cache = new ScoreCache(100);
+        cache.put("alice", null, 10, cache.version("alice"), page("alice"));
+        cache.put("alice", "cursor", 10, cache.version("alice"), page("alice"));
+        cache.put("bob", null, 10, cache.version("bob"), page("bob"));
+
+        cache.invalidate("alice");
+
+        assertNull(cache.get("alice", null, 10));
+        assertNull(cache.get("alice", "cursor", 10));
+        assertNotNull(cache.get("bob", null, 10));
+        assertEquals(1L, cache.getStats().get("invalidations"));
+    }
+
+    @Test
+    void testPut_PageReadBeforeASaveIsNotCached() {
+        ScoreCache cache = new ScoreCache(100);
+        long version = cache.version("alice");
+
+        cache.invalidate("alice"); // A score was saved while the page was being read
+        cache.put("alice", null, 10, version, page("alice"));
+
+        assertNull(cache.get("alice", null, 10));
+        assertEquals(0, cache.getStats().get("size"));
+    }
+
+    @Test
+    void testClear() {
+        ScoreCache cache = new ScoreCache(100);
+        long version = cache.version("alice");
+        cache.put("alice", null, 10, version, page("alice"));
+
+        cache.clear();
+        cache.put("bob", null, 10, version, page("bob")); // Read before the reset
+
+        assertNull(cache.get("alice", null, 10));
+        assertNull(cache.get("bob", null, 10));
+    }
+
+    @Test
+    void testDisabled() {
+        ScoreCache cache = new ScoreCache(0);
+        cache.put("alice", null, 10, cache.version("alice"), page("alice"));
+
+        assertNull(cache.get("alice", null, 10));
+    }
+}
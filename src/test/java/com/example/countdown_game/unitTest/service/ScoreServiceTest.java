@@ -1,16 +1,28 @@
 package com.example.countdown_game.unitTest.service;
 
+import com.example.countdown_game.dto.PlayerStatsView;
+import com.example.countdown_game.dto.ScorePage;
+import com.example.countdown_game.dto.ScoreView;
 import com.example.countdown_game.entity.Score;
 import com.example.countdown_game.repository.ScoreRepository;
+import com.example.countdown_game.service.LeaderboardService;
+import com.example.countdown_game.service.PlayerStatsService;
+import com.example.countdown_game.service.ScoreCache;
 import com.example.countdown_game.service.ScoreService;
+import com.example.countdown_game.service.ScoreWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
-import java.util.Collections;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,51 +32,120 @@ class ScoreServiceTest {
     @Mock
     private ScoreRepository scoreRepository; // Mocking the repository
 
+    @Mock
+    private ScoreWriter scoreWriter;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private PlayerStatsService playerStatsService;
+
+    @Mock
+    private ScoreCache scoreCache;
+
     @InjectMocks
     private ScoreService scoreService; // The service being tested
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this); // Initializes the mocks
+        when(scoreWriter.awaitWritten(anyString(), any())).thenReturn(true);
     }
 
     @Test
     void testGetScoresForPlayer_Success() {
         // Arrange
         String playerName = "player1";
-        Score score = new Score();
-        score.setPlayerName(playerName);
-        score.setAnswered("word");
-        score.setSelectedAlphabet("ABCDE");
-        score.setScoreValue(10);
-        score.setLongestPossibleWord("bead");
+        ScoreView score = new ScoreView(1L, playerName, 10, "ABCDE", "word", "bead", Instant.parse("2030-01-01T00:00:00Z"));
 
-        when(scoreRepository.findByPlayerName(playerName)).thenReturn(Collections.singletonList(score));
+        when(scoreRepository.findPageByPlayerName(eq(playerName), any(Pageable.class))).thenReturn(List.of(score));
 
         // Act
-        List<Score> result = scoreService.getScoresForPlayer(playerName);
+        ScorePage result = scoreService.getScoresForPlayer(playerName, null, 10);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("word", result.get(0).getAnswered());
-        assertEquals("bead", result.get(0).getLongestPossibleWord());
-        verify(scoreRepository, times(1)).findByPlayerName(playerName); // Verifying repository method call
+        assertEquals(1, result.getScores().size());
+        assertEquals("word", result.getScores().get(0).getAnswered());
+        assertEquals("bead", result.getScores().get(0).getLongestPossibleWord());
+        assertNull(result.getNextCursor()); // Nothing follows
+        verify(scoreRepository, times(1)).findPageByPlayerName(playerName, PageRequest.of(0, 11)); // One extra row to detect a next page
+    }
+
+    @Test
+    void testGetScoresForPlayer_CachesWrittenPages() {
+        ScorePage page = new ScorePage(List.of(), null);
+        when(scoreCache.version("player1")).thenReturn(7L);
+        when(scoreRepository.findPageByPlayerName(eq("player1"), any(Pageable.class))).thenReturn(List.of());
+
+        ScorePage result = scoreService.getScoresForPlayer("player1", null, 10);
+
+        assertTrue(result.getScores().isEmpty());
+        verify(scoreCache, times(1)).put(eq("player1"), isNull(), eq(10), eq(7L), any(ScorePage.class));
+
+        when(scoreCache.get("player1", null, 10)).thenReturn(page);
+
+        assertSame(page, scoreService.getScoresForPlayer("player1", null, 10));
+        verify(scoreRepository, times(1)).findPageByPlayerName(eq("player1"), any(Pageable.class)); // Served from the cache
+        verify(scoreWriter, times(1)).awaitWritten(anyString(), any());
+    }
+
+    @Test
+    void testGetScoresForPlayer_PageReadBeforeWritesIsNotCached() {
+        when(scoreWriter.awaitWritten(anyString(), any())).thenReturn(false);
+        when(scoreRepository.findPageByPlayerName(eq("player1"), any(Pageable.class))).thenReturn(List.of());
+
+        scoreService.getScoresForPlayer("player1", null, 10);
+
+        verify(scoreCache, never()).put(any(), any(), anyInt(), anyLong(), any());
+    }
+
+    @Test
+    void testGetScoresForPlayer_KeysetPaging() {
+        String playerName = "player1";
+        Instant start = Instant.parse("2030-01-01T00:00:00Z");
+        List<ScoreView> firstPage = List.of(
+                new ScoreView(1L, playerName, 3, "ABCDE", "BED", "BEAD", start),
+                new ScoreView(2L, playerName, 4, "ABCDE", "BEAD", "BEAD", start.plusNanos(1500)),
+                new ScoreView(3L, playerName, 2, "ABCDE", "AB", "BEAD", start.plusSeconds(1)));
+        when(scoreRepository.findPageByPlayerName(eq(playerName), any(Pageable.class))).thenReturn(firstPage);
+
+        ScorePage page = scoreService.getScoresForPlayer(playerName, null, 2);
+
+        assertEquals(2, page.getScores().size());
+        assertNotNull(page.getNextCursor());
+
+        when(scoreRepository.findPageByPlayerNameAfter(eq(playerName), any(), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(firstPage.get(2)));
+
+        ScorePage next = scoreService.getScoresForPlayer(playerName, page.getNextCursor(), 2);
+
+        assertEquals(List.of(firstPage.get(2)), next.getScores());
+        assertNull(next.getNextCursor());
+        verify(scoreRepository).findPageByPlayerNameAfter(playerName, start.plusNanos(1500), 2L, PageRequest.of(0, 3));
+    }
+
+    @Test
+    void testGetScoresForPlayer_InvalidCursor() {
+        assertThrows(IllegalArgumentException.class, () -> scoreService.getScoresForPlayer("player1", "not a cursor", 10));
+        assertThrows(IllegalArgumentException.class, () -> scoreService.getScoresForPlayer("player1", "MTIz", 10));
+        verifyNoInteractions(scoreRepository);
     }
 
     @Test
     void testGetScoresForPlayer_Failure() {
         // Arrange
         String playerName = "player1";
-        when(scoreRepository.findByPlayerName(playerName)).thenThrow(new RuntimeException("Database error"));
+        when(scoreRepository.findPageByPlayerName(eq(playerName), any(Pageable.class))).thenThrow(new RuntimeException("Database error"));
 
         // Act
-        List<Score> result = scoreService.getScoresForPlayer(playerName);
+        ScorePage result = scoreService.getScoresForPlayer(playerName, null, 10);
 
         // Assert
         assertNotNull(result);
-        assertTrue(result.isEmpty()); // It should return an empty list in case of error
-        verify(scoreRepository, times(1)).findByPlayerName(playerName); // Verifying repository method call
+        assertTrue(result.getScores().isEmpty()); // It should return an empty page in case of error
+        verify(scoreRepository, times(1)).findPageByPlayerName(eq(playerName), any(Pageable.class)); // Verifying repository method call
     }
 
     @Test
@@ -76,14 +157,28 @@ class ScoreServiceTest {
         int scoreValue = 10;
         String longestPossibleWord = "bead";
 
-        when(scoreRepository.save(any(Score.class))).thenReturn(null); // Mock save method
+        when(scoreWriter.submit(any(Score.class))).thenReturn(true); // Queued for the background writer
 
         // Act
         boolean result = scoreService.saveScore(playerName, currentLetters, word, scoreValue, longestPossibleWord);
 
         // Assert
         assertTrue(result); // The save operation should succeed
-        verify(scoreRepository, times(1)).save(any(Score.class)); // Verify that save is called
+        verify(scoreWriter, times(1)).submit(argThat(score -> score.getAnswered().equals(word)));
+        verify(scoreWriter, never()).write(anyList()); // Not written on the request thread
+        verifyNoInteractions(scoreRepository, leaderboardService, playerStatsService); // Updated by the writer once written
+        verify(scoreCache, times(1)).invalidate(playerName);
+    }
+
+    @Test
+    void testSaveScore_QueueFullSavesDirectly() {
+        when(scoreWriter.submit(any(Score.class))).thenReturn(false);
+        when(scoreWriter.write(anyList())).thenReturn(1);
+
+        boolean result = scoreService.saveScore("player1", "ABCDE", "word", 10, "bead");
+
+        assertTrue(result);
+        verify(scoreWriter, times(1)).write(argThat(scores -> scores.size() == 1));
     }
 
     @Test
@@ -95,25 +190,83 @@ class ScoreServiceTest {
         int scoreValue = 10;
         String longestPossibleWord = "bead";
 
-        when(scoreRepository.save(any(Score.class))).thenThrow(new RuntimeException("Database error"));
+        when(scoreWriter.submit(any(Score.class))).thenReturn(false);
+        when(scoreWriter.write(anyList())).thenReturn(0); // The direct write failed
 
         // Act
         boolean result = scoreService.saveScore(playerName, currentLetters, word, scoreValue, longestPossibleWord);
 
         // Assert
         assertFalse(result); // The save operation should fail
-        verify(scoreRepository, times(1)).save(any(Score.class)); // Verify that save is called
+        verify(scoreWriter, times(1)).write(anyList()); // Verify that the direct write was attempted
+    }
+
+    @Test
+    void testSaveScore_InvalidScore() {
+        when(scoreWriter.submit(any(Score.class))).thenThrow(new IllegalArgumentException("A score needs a player name"));
+
+        assertFalse(scoreService.saveScore(null, "ABCDE", "word", 4, "bead"));
+        verify(scoreWriter, never()).write(anyList());
+    }
+
+    @Test
+    void testSaveScores_Success() {
+        List<Score> scores = List.of(
+                new Score("player1", 3, "ABCDE", "BED", "BEAD"),
+                new Score("player2", 0, "ABCDE", "XYZ", "BEAD"));
+
+        when(scoreWriter.submit(any(Score.class))).thenReturn(true, false);
+        when(scoreWriter.write(anyList())).thenReturn(1);
+
+        boolean result = scoreService.saveScores(scores);
+
+        assertTrue(result);
+        verify(scoreWriter, times(2)).submit(any(Score.class));
+        verify(scoreWriter, times(1)).write(List.of(scores.get(1))); // Only the refused score
+        verifyNoInteractions(scoreRepository, leaderboardService);
+        verify(scoreCache).invalidate("player1");
+        verify(scoreCache).invalidate("player2");
+    }
+
+    @Test
+    void testSaveScores_InvalidScoreOnlySkipsItself() {
+        Score invalid = new Score("player2", 0, "ABCDE", null, "BEAD");
+        List<Score> scores = List.of(new Score("player1", 3, "ABCDE", "BED", "BEAD"), invalid);
+
+        when(scoreWriter.submit(any(Score.class))).thenReturn(true);
+        when(scoreWriter.submit(invalid)).thenThrow(new IllegalArgumentException("A score needs an answer"));
+
+        assertFalse(scoreService.saveScores(scores));
+        verify(scoreCache).invalidate("player1");
+        verify(scoreCache, never()).invalidate("player2");
+    }
+
+    @Test
+    void testGetPlayerStats() {
+        PlayerStatsView stats = new PlayerStatsView("player1", 4, 1, 0.25, 2.5, new TreeMap<>(Map.of(3, 2L)));
+        when(playerStatsService.getStats("player1")).thenReturn(Optional.of(stats));
+
+        assertEquals(Optional.of(stats), scoreService.getPlayerStats("player1"));
+        verify(scoreWriter, times(1)).awaitWritten(anyString(), any()); // Queued scores are rolled up first
     }
 
     @Test
     void testResetAllGameData() {
         // Arrange
         doNothing().when(scoreRepository).deleteAllScores(); // Mocking the deleteAll method
+        when(scoreWriter.reset(any())).thenAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return 0;
+        });
 
         // Act
         scoreService.resetAllGameData();
 
         // Assert
+        verify(scoreWriter, times(1)).reset(any()); // Queued scores are dropped too, and no batch lands in between
         verify(scoreRepository, times(1)).deleteAllScores(); // Ensure that deleteAll was called exactly once
+        verify(leaderboardService, times(1)).clear();
+        verify(playerStatsService, times(1)).clear();
+        verify(scoreCache, times(1)).clear();
     }
 }
@@ -0,0 +1,238 @@
+package com.example.countdown_game.unitTest.service;
+
+import com.example.countdown_game.entity.Score;
+import com.example.countdown_game.repository.ScoreRepository;
+import com.example.countdown_game.service.LeaderboardService;
+import com.example.countdown_game.service.PlayerStatsService;
+import com.example.countdown_game.service.ScoreWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScoreWriterTest {
+
+    @Mock
+    private ScoreRepository scoreRepository;
+
+    @Mock
+    private PlayerStatsService playerStatsService;
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void testSubmit_WritesInBatches() throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(((List<?>) invocation.getArgument(0)).size());
+            return invocation.getArgument(0);
+        });
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 1000, 100, 50, 50);
+
+        for (int i = 0; i < 250; i++) {
+            assertTrue(writer.submit(new Score("player" + i, 3, "ABCDE", "BED", "BEAD")));
+        }
+        writer.start();
+
+        assertTrue(writer.awaitWritten(Duration.ofSeconds(10)));
+        writer.stop();
+
+        assertEquals(List.of(100, 100, 50), batchSizes);
+        assertEquals(250L, writer.getStats().get("written"));
+        assertEquals(3L, writer.getStats().get("batches"));
+        verify(scoreRepository, never()).save(any());
+        verify(playerStatsService, times(3)).apply(anyList()); // Rollups follow every written batch
+    }
+
+    @Test
+    void testStop_DrainsQueueAndRefusesNewScores() throws Exception {
+        List<Integer> batchSizes = new ArrayList<>();
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            batchSizes.add(((List<?>) invocation.getArgument(0)).size());
+            return invocation.getArgument(0);
+        });
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 1000, 10, 10_000, 50);
+        writer.start();
+        writer.submit(new Score("player1", 3, "ABCDE", "BED", "BEAD"));
+        writer.submit(new Score("player2", 4, "ABCDE", "BEAD", "BEAD"));
+
+        writer.stop();
+
+        assertEquals(2, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertFalse(writer.submit(new Score("player3", 3, "ABCDE", "BED", "BEAD")));
+    }
+
+    @Test
+    void testAwaitWritten_OnlyWaitsForTheReadersPlayer() throws Exception {
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 100, 10, 10, 50);
+        writer.submit(new Score("player1", 3, "ABCDE", "BED", "BEAD"));
+
+        assertTrue(writer.awaitWritten("player2", Duration.ZERO), "Other players' scores are not waited for.");
+        assertFalse(writer.awaitWritten("player1", Duration.ofMillis(20)), "The writer has not started yet.");
+
+        writer.start();
+        assertTrue(writer.awaitWritten("player1", Duration.ofSeconds(10)));
+        writer.stop();
+        assertEquals(1L, writer.getStats().get("written"));
+    }
+
+    @Test
+    void testStop_WritesEveryScoreAcceptedDuringShutdown() throws Exception {
+        AtomicInteger saved = new AtomicInteger();
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.addAndGet(((List<?>) invocation.getArgument(0)).size());
+            return invocation.getArgument(0);
+        });
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 10_000, 50, 1, 50);
+        writer.start();
+        AtomicInteger acceptedCount = new AtomicInteger();
+        List<Thread> players = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String name = "player" + i;
+            Thread player = new Thread(() -> {
+                while (writer.submit(new Score(name, 3, "ABCDE", "BED", "BEAD"))) {
+                    acceptedCount.incrementAndGet();
+                }
+            });
+            players.add(player);
+            player.start();
+        }
+
+        Thread.sleep(50);
+        writer.stop();
+        for (Thread player : players) {
+            player.join();
+        }
+
+        assertTrue(acceptedCount.get() > 0);
+        assertEquals(acceptedCount.get(), saved.get(), "Every accepted score is written before stop returns.");
+    }
+
+    @Test
+    void testSubmit_RefusesWhenQueueIsFull() {
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 1, 10, 50, 1);
+
+        assertTrue(writer.submit(new Score("player1", 3, "ABCDE", "BED", "BEAD")));
+        assertFalse(writer.submit(new Score("player2", 3, "ABCDE", "BED", "BEAD")));
+        assertEquals(1L, writer.getStats().get("refused"));
+        assertEquals(1, writer.discardPending());
+    }
+
+    @Test
+    void testFlush_FailureIsCountedAndDoesNotBlockReaders() throws Exception {
+        when(scoreRepository.saveAll(anyList())).thenThrow(new RuntimeException("Database error"));
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 100, 10, 10, 50);
+        writer.start();
+
+        writer.submit(new Score("player1", 3, "ABCDE", "BED", "BEAD"));
+
+        assertTrue(writer.awaitWritten(Duration.ofSeconds(10)));
+        writer.stop();
+        assertEquals(1L, writer.getStats().get("failed"));
+        verifyNoInteractions(leaderboardService); // Unwritten scores are not ranked
+    }
+
+    @Test
+    void testFlush_FailedBatchIsRetriedRowByRow() throws Exception {
+        Score good1 = new Score("player1", 3, "ABCDE", "BED", "BEAD");
+        Score bad = new Score("player2", 4, "ABCDE", "BEAD", "BEAD");
+        Score good2 = new Score("player3", 2, "ABCDE", "AB", "BEAD");
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            if (((List<?>) invocation.getArgument(0)).contains(bad)) {
+                throw new RuntimeException("Constraint violation");
+            }
+            return invocation.getArgument(0);
+        });
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 100, 10, 10_000, 50);
+        writer.submit(good1);
+        writer.submit(bad);
+        writer.submit(good2);
+        writer.start();
+
+        writer.stop();
+
+        assertEquals(2L, writer.getStats().get("written"));
+        assertEquals(1L, writer.getStats().get("failed"));
+        assertEquals(1L, writer.getStats().get("retriedBatches"));
+        verify(leaderboardService).record("player1", "BED", 3);
+        verify(leaderboardService).record("player3", "AB", 2);
+        verify(leaderboardService, never()).record(eq("player2"), any(), anyInt());
+        verify(playerStatsService).apply(List.of(good1));
+        verify(playerStatsService).apply(List.of(good2));
+        verify(playerStatsService, never()).apply(List.of(bad));
+    }
+
+    @Test
+    void testWrite_RollupFailureRollsBackTheScores() {
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new RuntimeException("Rollup error")).when(playerStatsService).apply(anyList());
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 10, 10, 50, 1);
+
+        assertEquals(0, writer.write(List.of(new Score("player1", 3, "ABCDE", "BED", "BEAD"))));
+
+        verify(transactionManager, times(2)).rollback(any()); // The batch, then the retried row
+        verify(transactionManager, never()).commit(any());
+        assertEquals(1L, writer.getStats().get("failed"));
+        verifyNoInteractions(leaderboardService);
+    }
+
+    @Test
+    void testSubmit_NormalizesAndRejectsScores() {
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 10, 10, 50, 1);
+        Score unsolved = new Score("player1", 0, "ABCDE", "XYZ", null); // The solve ran out of time
+
+        assertTrue(writer.submit(unsolved));
+        assertEquals("", unsolved.getLongestPossibleWord());
+        assertThrows(IllegalArgumentException.class, () -> writer.submit(new Score("player1", 0, "ABCDE", null, "BEAD")));
+        assertThrows(IllegalArgumentException.class, () -> writer.submit(new Score("player1", 0, "ABCDE", "A".repeat(256), "BEAD")));
+        assertEquals(1, writer.discardPending());
+    }
+
+    @Test
+    void testReset_DropsScoresTheWriterAlreadyTook() throws Exception {
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 100, 10, 10_000, 50);
+        writer.start();
+        writer.submit(new Score("player1", 3, "ABCDE", "BED", "BEAD"));
+        while (!writer.getStats().get("queued").equals(0)) {
+            Thread.sleep(1); // The writer took the score and lingers for more
+        }
+        List<String> events = new ArrayList<>();
+
+        writer.reset(() -> events.add("cleared"));
+        writer.stop();
+
+        assertEquals(List.of("cleared"), events);
+        assertEquals(1L, writer.getStats().get("discarded"));
+        verify(scoreRepository, never()).saveAll(anyList());
+        verifyNoInteractions(leaderboardService);
+    }
+
+    @Test
+    void testWrite_SavesOnTheCallingThread() {
+        when(scoreRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        ScoreWriter writer = new ScoreWriter(scoreRepository, playerStatsService, leaderboardService, transactionManager, 10, 10, 50, 1);
+        Score score = new Score("player1", 3, "ABCDE", "BED", "BEAD");
+
+        assertEquals(1, writer.write(List.of(score)));
+        verify(leaderboardService).record("player1", "BED", 3);
+        verify(playerStatsService).apply(List.of(score));
+    }
+}
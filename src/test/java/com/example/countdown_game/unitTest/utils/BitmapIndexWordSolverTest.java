@@ -0,0 +1,86 @@
+package com.example.countdown_game.unitTest.utils;
+
+import com.example.countdown_game.utils.BitmapIndexWordSolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitmapIndexWordSolverTest {
+
+    private BitmapIndexWordSolver solver;
+
+    @BeforeEach
+    void setUp() {
+        solver = BitmapIndexWordSolver.fromWords(Arrays.asList("a", "at", "cat", "act", "cast", "tacts", "z", "x-ray"));
+    }
+
+    @Test
+    void testFindLongestWord_ValidLetters() {
+        // Act
+        String result = solver.findLongestWord("TACS");
+
+        // Assert
+        assertEquals("cast", result, "The longest word formed should be 'cast'.");
+    }
+
+    @Test
+    void testFindLongestWord_RespectsLetterCounts() {
+        // Act
+        String result = solver.findLongestWord("tacs");
+
+        // Assert
+        assertNotEquals("tacts", result, "'tacts' needs two copies of 't'.");
+    }
+
+    @Test
+    void testFindLongestWord_NoValidWord() {
+        // Act
+        String result = solver.findLongestWord("qqq");
+
+        // Assert
+        assertNull(result, "No valid word should be found for letters that spell nothing.");
+    }
+
+    @Test
+    void testFindAllWords_LongestFirst() {
+        // Act
+        List<String> result = solver.findAllWords("tca");
+
+        // Assert
+        assertEquals(List.of("act", "cat", "at", "a"), result, "Words should be listed longest first.");
+    }
+
+    @Test
+    void testCountWords() {
+        // Act
+        int result = solver.countWords("ttacsz");
+
+        // Assert
+        assertEquals(7, result, "Every word except the one with a hyphen should be constructible.");
+    }
+
+    @Test
+    void testForEachWord_LongestFirst() {
+        // Act
+        List<String> result = new ArrayList<>();
+        solver.forEachWord("tcas", result::add);
+
+        // Assert
+        assertEquals(List.of("cast", "act", "cat", "at", "a"), result, "Words should be visited longest first.");
+    }
+
+    @Test
+    void testForEachWord_StopsWhenAsked() {
+        // Act
+        List<String> result = new ArrayList<>();
+        solver.forEachWord("tcas", word -> result.add(word) && result.size() < 2);
+
+        // Assert
+        assertEquals(List.of("cast", "act"), result, "The search should stop once the visitor returns false.");
+    }
+}
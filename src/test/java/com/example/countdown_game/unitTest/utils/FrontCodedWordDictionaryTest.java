@@ -0,0 +1,86 @@
+package com.example.countdown_game.unitTest.utils;
+
+import com.example.countdown_game.utils.FrontCodedWordDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrontCodedWordDictionaryTest {
+
+    private final List<String> words = new ArrayList<>(Arrays.asList(
+            "a", "aa", "aardvark", "ab", "abac", "abacus", "abandon", "act", "appel", "apple",
+            "b", "ba", "bad", "cat", "tac", "zebra", "zebras", "zz", ""));
+
+    private FrontCodedWordDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        // Enough words to span several blocks
+        for (char c = 'a'; c <= 'y'; c++) {
+            words.add("m" + c + "x");
+        }
+        dictionary = FrontCodedWordDictionary.fromWords(words);
+    }
+
+    @Test
+    void testContains_EveryWord() {
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                assertTrue(dictionary.contains(word), "Expected '" + word + "' to be found.");
+            }
+        }
+    }
+
+    @Test
+    void testContains_MissingWords() {
+        assertFalse(dictionary.contains(""), "Blank words should be skipped.");
+        assertFalse(dictionary.contains("aardvarks"));
+        assertFalse(dictionary.contains("abab"));
+        assertFalse(dictionary.contains("abacu"));
+        assertFalse(dictionary.contains("0"), "Keys before the first word should not be found.");
+        assertFalse(dictionary.contains("zzz"), "Keys after the last word should not be found.");
+        assertFalse(dictionary.contains("mzx"));
+        assertFalse(dictionary.contains(null));
+    }
+
+    @Test
+    void testFindWordWithSignature() {
+        assertEquals("act", dictionary.findWordWithSignature("act".toCharArray(), 3),
+                "The alphabetically first anagram should be returned.");
+        assertEquals("appel", dictionary.findWordWithSignature("aelpp".toCharArray(), 5));
+        assertNull(dictionary.findWordWithSignature("aet".toCharArray(), 3));
+    }
+
+    @Test
+    void testWords_RoundTrip() {
+        List<String> expected = new ArrayList<>(words);
+        expected.remove("");
+        expected.sort(null);
+
+        assertEquals(expected, new ArrayList<>(dictionary.words()));
+        assertEquals(expected.size(), dictionary.size());
+    }
+
+    @Test
+    void testHeapBytes_SmallerThanText() {
+        long text = words.stream().mapToLong(String::length).sum();
+
+        assertTrue(dictionary.heapBytes() < text * 4, "Front coding should stay close to the raw text size.");
+    }
+
+    @Test
+    void testForEachWordWithSignature() {
+        List<String> anagrams = new ArrayList<>();
+        assertTrue(dictionary.forEachWordWithSignature("act".toCharArray(), 3, anagrams::add));
+        assertEquals(List.of("act", "cat", "tac"), anagrams);
+
+        List<String> none = new ArrayList<>();
+        assertTrue(dictionary.forEachWordWithSignature("aet".toCharArray(), 3, none::add));
+        assertTrue(none.isEmpty());
+    }
+}
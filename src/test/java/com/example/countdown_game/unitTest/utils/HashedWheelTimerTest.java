@@ -0,0 +1,85 @@
+package com.example.countdown_game.unitTest.utils;
+
+import com.example.countdown_game.utils.HashedWheelTimer;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+
+    @Test
+    void testSchedule_RunsAfterDelay() throws Exception {
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(5), 8)) {
+            CountDownLatch fired = new CountDownLatch(1);
+            long start = System.nanoTime();
+
+            HashedWheelTimer.Timeout timeout = timer.schedule(fired::countDown, Duration.ofMillis(100));
+
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+            assertTrue(timeout.isExpired());
+        }
+    }
+
+    @Test
+    void testSchedule_DelayLongerThanOneTurnOfTheWheel() throws Exception {
+        // 4 buckets of 5 ms make one turn every 20 ms, so these tasks wrap around several times
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(5), 4)) {
+            CountDownLatch fired = new CountDownLatch(3);
+            long start = System.nanoTime();
+
+            timer.schedule(fired::countDown, Duration.ofMillis(60));
+            timer.schedule(fired::countDown, Duration.ofMillis(75));
+            timer.schedule(fired::countDown, Duration.ofMillis(90));
+
+            assertTrue(fired.await(5, TimeUnit.SECONDS));
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(90));
+            assertEquals(0, timer.pendingTimeouts());
+        }
+    }
+
+    @Test
+    void testCancel_TaskNeverRuns() throws Exception {
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(5), 8)) {
+            AtomicInteger runs = new AtomicInteger();
+            CountDownLatch later = new CountDownLatch(1);
+
+            HashedWheelTimer.Timeout timeout = timer.schedule(runs::incrementAndGet, Duration.ofMillis(30));
+            assertTrue(timeout.cancel());
+            timer.schedule(later::countDown, Duration.ofMillis(60));
+
+            assertTrue(later.await(5, TimeUnit.SECONDS));
+            assertEquals(0, runs.get());
+            assertTrue(timeout.isCancelled());
+            assertFalse(timeout.cancel());
+        }
+    }
+
+    @Test
+    void testSchedule_ManyTasks() throws Exception {
+        try (HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(1), 64)) {
+            int tasks = 100_000;
+            CountDownLatch fired = new CountDownLatch(tasks);
+
+            for (int i = 0; i < tasks; i++) {
+                timer.schedule(fired::countDown, Duration.ofMillis(i % 200));
+            }
+
+            assertTrue(fired.await(10, TimeUnit.SECONDS));
+            assertEquals(0, timer.pendingTimeouts());
+        }
+    }
+
+    @Test
+    void testSchedule_AfterClose() {
+        HashedWheelTimer timer = new HashedWheelTimer("test-timer", Duration.ofMillis(5), 8);
+        timer.close();
+
+        assertThrows(IllegalStateException.class, () -> timer.schedule(() -> { }, Duration.ofMillis(10)));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.countdown_game.unitTest.utils;
+
+import com.example.countdown_game.utils.LetterDistribution;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LetterDistributionTest {
+
+    @Test
+    void testSample_OnlyListedLetters() {
+        LetterDistribution distribution = LetterDistribution.parse("a:1, E:2 ,I:3");
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue("AEI".indexOf(distribution.sample(random)) >= 0);
+        }
+    }
+
+    @Test
+    void testSample_FollowsWeights() {
+        LetterDistribution distribution = LetterDistribution.parse("A:1,B:3,C:6");
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[3];
+        int draws = 100_000;
+
+        for (int i = 0; i < draws; i++) {
+            counts[distribution.sample(random) - 'A']++;
+        }
+
+        assertEquals(0.1, (double) counts[0] / draws, 0.01);
+        assertEquals(0.3, (double) counts[1] / draws, 0.01);
+        assertEquals(0.6, (double) counts[2] / draws, 0.01);
+    }
+
+    @Test
+    void testSample_ZeroWeightNeverDrawn() {
+        LetterDistribution distribution = LetterDistribution.parse("A:0,B:1,C:0,D:5");
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            char letter = distribution.sample(random);
+            assertTrue(letter == 'B' || letter == 'D', "Drew zero-weight letter " + letter);
+        }
+    }
+
+    @Test
+    void testSample_SameSeedSameLetters() {
+        LetterDistribution distribution = LetterDistribution.parse("A:15,E:21,I:13,O:13,U:5");
+        SplittableRandom first = new SplittableRandom(99);
+        SplittableRandom second = new SplittableRandom(99);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(distribution.sample(first), distribution.sample(second));
+        }
+    }
+
+    @Test
+    void testParse_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> LetterDistribution.parse("A15"));
+        assertThrows(IllegalArgumentException.class, () -> LetterDistribution.parse("AB:1"));
+        assertThrows(IllegalArgumentException.class, () -> LetterDistribution.parse("A:x"));
+        assertThrows(IllegalArgumentException.class, () -> LetterDistribution.parse("A:-1,B:2"));
+        assertThrows(IllegalArgumentException.class, () -> LetterDistribution.parse("A:0,B:0"));
+    }
+}
@@ -2,11 +2,18 @@ package com.example.countdown_game.unitTest.utils;
 
 
 
+import com.example.countdown_game.utils.Deadline;
+import com.example.countdown_game.utils.HashWordDictionary;
 import com.example.countdown_game.utils.LongestWordFinder;
+import com.example.countdown_game.utils.SignatureWordSolver;
+import com.example.countdown_game.utils.SolveResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -91,6 +98,27 @@ class LongestWordFinderTest {
         assertEquals("a", result, "The longest word formed should be 'a'.");
     }
 
+    @Test
+    void testFindLongestWordInLongestWordFinder_NineLetters() {
+        // Arrange
+        String letters = "NWODTNUOC"; // Scrambled "countdown"
+
+        // Act
+        String result = LongestWordFinder.findLongestWordInLongestWordFinder(letters);
+
+        // Assert
+        assertEquals("countdown", result, "All nine letters should be used when they form a word.");
+    }
+
+    @Test
+    void testSignatureOf() {
+        // Act
+        String signature = LongestWordFinder.signatureOf("apple");
+
+        // Assert
+        assertEquals("aelpp", signature, "The signature should be the letters in sorted order.");
+    }
+
     @Test
     void testInitializeDictionary_DictionaryLoaded() {
         // Assert
@@ -162,4 +190,35 @@ class LongestWordFinderTest {
         assertEquals(1, permutations.size(), "Expected 0 permutations for an empty array");
         assertTrue(permutations.contains(""), "Permutations should contain ''");
     }
+
+    @Test
+    void testForEachWord_SignatureSolver() {
+        SignatureWordSolver solver = new SignatureWordSolver(HashWordDictionary.fromWords(
+                Arrays.asList("a", "at", "cat", "act", "tac", "cast", "tacts")));
+
+        List<String> result = new ArrayList<>();
+        solver.forEachWord("TCAS", result::add);
+
+        assertEquals(List.of("cast", "act", "cat", "tac", "at", "a"), result,
+                "Words should be visited longest first, with every anagram of a signature.");
+    }
+
+    @Test
+    void testFindLongestWord_DeadlinePassed() throws InterruptedException {
+        Deadline deadline = Deadline.after(Duration.ofNanos(1));
+        Thread.sleep(1);
+
+        SolveResult result = LongestWordFinder.findLongestWord(LongestWordFinder.getDictionary(),
+                "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz", deadline);
+
+        assertFalse(result.isComplete(), "A search past its deadline should be reported as incomplete.");
+    }
+
+    @Test
+    void testFindLongestWord_NoDeadline() {
+        SolveResult result = LongestWordFinder.findLongestWord(LongestWordFinder.getDictionary(), "NWODTNUOC", Deadline.NONE);
+
+        assertTrue(result.isComplete());
+        assertEquals("countdown", result.getWord());
+    }
 }
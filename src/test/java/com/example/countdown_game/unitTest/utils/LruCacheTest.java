@@ -0,0 +1,92 @@
+package com.example.countdown_game.unitTest.utils;
+
+import com.example.countdown_game.utils.LruCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+
+    @Test
+    void testGet_RecordsHitsAndMisses() {
+        // Arrange
+        LruCache<String, String> cache = new LruCache<>(100);
+        cache.put("act", "cat");
+
+        // Act
+        String hit = cache.get("act");
+        String miss = cache.get("dgo");
+        Map<String, Object> stats = cache.getStats();
+
+        // Assert
+        assertEquals("cat", hit);
+        assertNull(miss);
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+    }
+
+    @Test
+    void testPut_EvictsWhenFull() {
+        // Arrange
+        LruCache<Integer, Integer> cache = new LruCache<>(32);
+
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            cache.put(i, i);
+        }
+
+        // Assert
+        assertTrue(cache.size() <= 32, "The cache should never exceed its maximum size.");
+        assertEquals(1000L - cache.size(), cache.getStats().get("evictions"));
+    }
+
+    @Test
+    void testPut_KeepsRecentlyUsedEntries() {
+        // Arrange
+        LruCache<String, String> cache = new LruCache<>(1);
+        cache.put("a", "first");
+
+        // Act
+        cache.get("a");
+        cache.put("b", "second");
+
+        // Assert
+        assertNull(cache.get("a"), "The least recently used entry should be evicted.");
+        assertEquals("second", cache.get("b"));
+    }
+
+    @Test
+    void testPut_DisabledCacheStoresAndEvictsNothing() {
+        // Arrange
+        LruCache<String, String> cache = new LruCache<>(0);
+
+        // Act
+        cache.put("a", "first");
+        cache.put("b", "second");
+
+        // Assert
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(0L, cache.getStats().get("evictions"));
+    }
+
+    @Test
+    void testClear() {
+        // Arrange
+        LruCache<String, String> cache = new LruCache<>(10);
+        cache.put("a", "first");
+
+        // Act
+        cache.clear();
+
+        // Assert
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testNegativeSize() {
+        assertThrows(IllegalArgumentException.class, () -> new LruCache<String, String>(-1));
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.countdown_game.unitTest.utils;
+
+import com.example.countdown_game.utils.DictionaryCompiler;
+import com.example.countdown_game.utils.MappedWordDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedWordDictionaryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private MappedWordDictionary dictionary;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path source = tempDir.resolve("words.txt");
+        Files.write(source, List.of("Cat", "act", "", "tac", "apple", "appel", "a"));
+        Path compiled = tempDir.resolve("words.dict");
+        DictionaryCompiler.compile(source, compiled);
+        dictionary = MappedWordDictionary.open(compiled);
+    }
+
+    @Test
+    void testContains() {
+        assertTrue(dictionary.contains("cat"), "Words should be lower-cased when compiled.");
+        assertTrue(dictionary.contains("apple"));
+        assertTrue(dictionary.contains("a"));
+        assertFalse(dictionary.contains("ca"));
+        assertFalse(dictionary.contains(""), "Blank lines should be skipped.");
+        assertFalse(dictionary.contains(null));
+    }
+
+    @Test
+    void testFindWordWithSignature() {
+        assertEquals("act", dictionary.findWordWithSignature("act".toCharArray(), 3),
+                "The alphabetically first anagram should be returned.");
+        assertEquals("appel", dictionary.findWordWithSignature("aelppx".toCharArray(), 5));
+        assertNull(dictionary.findWordWithSignature("aet".toCharArray(), 3));
+    }
+
+    @Test
+    void testWords() {
+        assertEquals(6, dictionary.size());
+        assertEquals(List.of("a", "act", "appel", "apple", "cat", "tac"), dictionary.words());
+    }
+
+    @Test
+    void testOpen_RejectsOtherFiles() throws IOException {
+        Path text = tempDir.resolve("not-a-dictionary.dict");
+        Files.write(text, List.of("hello world, this is not compiled"));
+
+        assertThrows(IOException.class, () -> MappedWordDictionary.open(text));
+    }
+
+    @Test
+    void testForEachWordWithSignature() {
+        List<String> anagrams = new ArrayList<>();
+        assertTrue(dictionary.forEachWordWithSignature("act".toCharArray(), 3, anagrams::add));
+        assertEquals(List.of("act", "cat", "tac"), anagrams);
+
+        List<String> first = new ArrayList<>();
+        assertFalse(dictionary.forEachWordWithSignature("act".toCharArray(), 3, word -> first.add(word) && false));
+        assertEquals(List.of("act"), first, "The visitor should be able to stop the walk.");
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.countdown_game.unitTest.utils;
+
+import com.example.countdown_game.utils.Deadline;
+import com.example.countdown_game.utils.SolveResult;
+import com.example.countdown_game.utils.TrieWordSolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrieWordSolverTest {
+
+    private TrieWordSolver solver;
+
+    @BeforeEach
+    void setUp() {
+        solver = TrieWordSolver.fromWords(Arrays.asList("a", "at", "cat", "act", "cast", "tacts", "z", "x-ray"));
+    }
+
+    @Test
+    void testFindLongestWord_UsesEachLetterOnce() {
+        // Act
+        String result = solver.findLongestWord("TACS");
+
+        // Assert
+        assertEquals("cast", result, "The longest word formed should be 'cast'.");
+    }
+
+    @Test
+    void testFindLongestWord_PrefersAlphabeticallyFirstOfEqualLength() {
+        // Act
+        String result = solver.findLongestWord("tca");
+
+        // Assert
+        assertEquals("act", result, "Ties should resolve to the alphabetically first word.");
+    }
+
+    @Test
+    void testFindLongestWord_NoValidWord() {
+        // Act
+        String result = solver.findLongestWord("qqq");
+
+        // Assert
+        assertNull(result, "No valid word should be found for letters that spell nothing.");
+    }
+
+    @Test
+    void testFindLongestWord_EmptyLetters() {
+        // Act
+        String result = solver.findLongestWord("");
+
+        // Assert
+        assertNull(result, "No valid word should be found for empty letters.");
+    }
+
+    @Test
+    void testFindLongestWord_LongRound() {
+        // Arrange
+        String letters = "abcdefghijklmnopqrstuvwxyzabcdefghijklmnopqrstuvwxyz";
+
+        // Act
+        String result = solver.findLongestWord(letters);
+
+        // Assert
+        assertEquals("tacts", result, "Long rounds should be solved without enumerating permutations.");
+    }
+
+    @Test
+    void testForEachWord_LongestFirst() {
+        // Act
+        List<String> result = new ArrayList<>();
+        solver.forEachWord("tcas", result::add);
+
+        // Assert
+        assertEquals(List.of("cast", "act", "cat", "at", "a"), result, "Words should be visited longest first.");
+    }
+
+    @Test
+    void testForEachWord_StopsWhenAsked() {
+        // Act
+        List<String> result = new ArrayList<>();
+        solver.forEachWord("tcas", word -> result.add(word) && result.size() < 2);
+
+        // Assert
+        assertEquals(List.of("cast", "act"), result, "The search should stop once the visitor returns false.");
+    }
+
+    @Test
+    void testFindLongestWord_WithinDeadline() {
+        // Act
+        SolveResult result = solver.findLongestWord("TACS", Deadline.after(Duration.ofSeconds(10)));
+
+        // Assert
+        assertTrue(result.isComplete(), "A small search should finish within its deadline.");
+        assertEquals("cast", result.getWord());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.countdown_game.unitTest.utils;
+
+import com.example.countdown_game.utils.SolverEngine;
+import com.example.countdown_game.utils.VectorScanWordSolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorScanWordSolverTest {
+
+    private VectorScanWordSolver solver;
+
+    @BeforeEach
+    void setUp() {
+        solver = VectorScanWordSolver.fromWords(Arrays.asList("a", "at", "cat", "act", "cast", "tacts", "z", "x-ray"));
+    }
+
+    @Test
+    void testIsSupported() {
+        assertTrue(SolverEngine.isVectorApiAvailable(), "Tests run with jdk.incubator.vector added.");
+    }
+
+    @Test
+    void testFindLongestWord_ValidLetters() {
+        // Act
+        String result = solver.findLongestWord("TACS");
+
+        // Assert
+        assertEquals("cast", result, "The longest word formed should be 'cast'.");
+    }
+
+    @Test
+    void testFindLongestWord_NoValidWord() {
+        // Act
+        String result = solver.findLongestWord("qqq");
+
+        // Assert
+        assertNull(result, "No valid word should be found for letters that spell nothing.");
+    }
+
+    @Test
+    void testScan_AnswersAllQueriesTogether() {
+        // Act
+        VectorScanWordSolver.ScanResult result = solver.scan("tca");
+
+        // Assert
+        assertEquals("act", result.getLongestWord());
+        assertEquals(List.of("act", "cat", "at", "a"), result.getWords(), "Words should be listed longest first.");
+        assertEquals(4, result.getCount());
+    }
+
+    @Test
+    void testScan_SpansSeveralChunks() {
+        // Arrange
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            words.add("b" + "c".repeat(i % 25));
+        }
+        words.add("a");
+        VectorScanWordSolver large = VectorScanWordSolver.fromWords(words);
+
+        // Act
+        VectorScanWordSolver.ScanResult result = large.scan("a");
+
+        // Assert
+        assertEquals(List.of("a"), result.getWords(), "Only the single letter word should match.");
+    }
+
+    @Test
+    void testForEachWord_LongestFirst() {
+        // Act
+        List<String> result = new ArrayList<>();
+        solver.forEachWord("tcas", result::add);
+
+        // Assert
+        assertEquals(List.of("cast", "act", "cat", "at", "a"), result, "Words should be visited longest first.");
+    }
+
+    @Test
+    void testForEachWord_StopsWhenAsked() {
+        // Act
+        List<String> result = new ArrayList<>();
+        solver.forEachWord("tcas", word -> result.add(word) && result.size() < 2);
+
+        // Assert
+        assertEquals(List.of("cast", "act"), result, "The search should stop once the visitor returns false.");
+    }
+}